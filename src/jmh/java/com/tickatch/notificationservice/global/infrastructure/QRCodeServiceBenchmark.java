@@ -0,0 +1,62 @@
+package com.tickatch.notificationservice.global.infrastructure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * QR 코드 생성 (이메일 PNG / MMS JPG).
+ *
+ * <p>{@code cached=false}면 캐시 용량을 0으로 두어 매 호출 인코딩 비용을 측정하고, {@code true}면 같은 대상에 대한 캐시 적중 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QRCodeServiceBenchmark {
+
+  private static final String TARGET =
+      "https://www.tickatch.xyz/ticket/checked?ticketId=6f1c2a7e-3b8d-4e0f-9a51-2d7c8b4e6f10";
+
+  @Param({"false", "true"})
+  public boolean cached;
+
+  private QRCodeEncoderPool qrCodeEncoderPool;
+  private QRCodeService qrCodeService;
+
+  @Setup
+  public void setUp() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    qrCodeEncoderPool = new QRCodeEncoderPool(meterRegistry, 16);
+    qrCodeService =
+        new QRCodeService(
+            new QRCodeCache(meterRegistry, cached ? 33_554_432 : 0, Duration.ofMinutes(30)),
+            new QRCodeImageEncoder(),
+            new QRCodeJpegCompressor(meterRegistry),
+            qrCodeEncoderPool,
+            new NotificationMetrics(meterRegistry));
+  }
+
+  @TearDown
+  public void tearDown() {
+    qrCodeEncoderPool.destroy();
+  }
+
+  @Benchmark
+  public String generateQRCode() {
+    return qrCodeService.generateQRCode(TARGET);
+  }
+
+  @Benchmark
+  public String generateQRCodeForMms() {
+    return qrCodeService.generateQRCodeForMms(TARGET);
+  }
+}
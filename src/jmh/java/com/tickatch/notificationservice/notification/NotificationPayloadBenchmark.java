@@ -0,0 +1,87 @@
+package com.tickatch.notificationservice.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickatch.notificationservice.notification.application.dto.NotificationResponse;
+import com.tickatch.notificationservice.notification.domain.Notification;
+import com.tickatch.notificationservice.notification.domain.NotificationChannel;
+import com.tickatch.notificationservice.notification.domain.NotificationStatus;
+import com.tickatch.notificationservice.notification.domain.NotificationSummary;
+import com.tickatch.notificationservice.notification.infrastructure.message.dto.EmailSendRequestEvent;
+import io.github.tickatch.common.util.JsonUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** 발송 요청 메시지 직렬화와 조회 응답 변환 (RabbitMQ 메시지 컨버터와 같은 ObjectMapper 사용) */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotificationPayloadBenchmark {
+
+  private ObjectMapper objectMapper;
+  private Notification notification;
+  private NotificationSummary summary;
+
+  @Setup
+  public void setUp() throws IOException {
+    objectMapper = JsonUtils.getObjectMapper();
+
+    String content;
+    try (InputStream input =
+        getClass().getResourceAsStream("/templates/email/ticket-issued.html")) {
+      content = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    notification =
+        Notification.create(
+            UUID.randomUUID(),
+            "TICKET_ISSUED",
+            NotificationChannel.EMAIL,
+            "TICKET_ISSUED",
+            "[Tickatch] 티켓이 발행되었습니다",
+            content,
+            "user@tickatch.xyz",
+            "attachment:" + "0".repeat(64));
+
+    summary =
+        new NotificationSummary(
+            1L,
+            UUID.randomUUID(),
+            "TICKET_ISSUED",
+            NotificationChannel.EMAIL,
+            "TICKET_ISSUED",
+            "[Tickatch] 티켓이 발행되었습니다",
+            "user@tickatch.xyz",
+            NotificationStatus.SENT,
+            null,
+            LocalDateTime.now(),
+            0,
+            LocalDateTime.now());
+  }
+
+  @Benchmark
+  public byte[] serializeEmailSendRequest() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(EmailSendRequestEvent.from(notification, true));
+  }
+
+  @Benchmark
+  public NotificationResponse responseFromNotification() {
+    return NotificationResponse.from(notification);
+  }
+
+  @Benchmark
+  public NotificationResponse responseFromSummary() {
+    return NotificationResponse.from(summary);
+  }
+}
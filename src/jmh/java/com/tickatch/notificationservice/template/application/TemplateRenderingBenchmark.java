@@ -0,0 +1,76 @@
+package com.tickatch.notificationservice.template.application;
+
+import com.tickatch.notificationservice.global.infrastructure.NotificationMetrics;
+import com.tickatch.notificationservice.template.domain.TemplateType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** 티켓 발행 이메일 템플릿 렌더링 (컴파일 포함 / 컴파일된 템플릿 / 캐시를 거치는 서비스 경로) */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateRenderingBenchmark {
+
+  private static final String TEMPLATE_CODE = "TICKET_ISSUED";
+
+  static final Map<String, Object> VARIABLES =
+      Map.of(
+          "ticketId", "6f1c2a7e-3b8d-4e0f-9a51-2d7c8b4e6f10",
+          "reservationNumber", "R20261018-000123",
+          "reserverName", "홍길동",
+          "productName", "뮤지컬 <레미제라블>",
+          "performanceDate", "2026년 11월 21일 19:30",
+          "artHallName", "블루스퀘어",
+          "stageName", "신한카드홀",
+          "seatNumber", "VIP석 1층 B열 12번",
+          "qrCodeImage", "attachment:" + "0".repeat(64),
+          "verifyUrl", "https://www.tickatch.xyz/ticket/checked?ticketId=6f1c2a7e");
+
+  private TemplateRenderer templateRenderer;
+  private TemplateService templateService;
+  private String source;
+  private CompiledTemplate compiled;
+
+  @Setup
+  public void setUp() throws IOException {
+    templateRenderer = new TemplateRenderer();
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    templateService =
+        new TemplateService(
+            templateRenderer,
+            new CompiledTemplateCache(meterRegistry, 4_194_304),
+            new NotificationMetrics(meterRegistry));
+
+    try (InputStream input =
+        getClass().getResourceAsStream("/templates/email/ticket-issued.html")) {
+      source = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    }
+    compiled = templateRenderer.compile("ticket-issued", source);
+  }
+
+  @Benchmark
+  public String renderSource() {
+    return templateRenderer.render(source, VARIABLES);
+  }
+
+  @Benchmark
+  public String renderCompiled() {
+    return templateRenderer.render(compiled, VARIABLES);
+  }
+
+  @Benchmark
+  public String renderTemplate() {
+    return templateService.renderTemplate(TEMPLATE_CODE, TemplateType.EMAIL, VARIABLES);
+  }
+}
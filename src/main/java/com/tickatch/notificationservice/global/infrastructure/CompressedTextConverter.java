@@ -0,0 +1,99 @@
+package com.tickatch.notificationservice.global.infrastructure;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * 긴 TEXT 컬럼을 deflate 압축해 저장하는 컨버터.
+ *
+ * <p>압축한 값은 {@code deflate:} 접두사 뒤에 Base64로 저장하고, 조회 시 접두사가 있는 값만 해제하므로 압축 설정을 바꿔도 기존 행을 그대로 읽을 수
+ * 있다. 압축 결과가 원문보다 짧지 않으면 원문을 저장한다. Hibernate가 Spring 빈 컨테이너로 생성하므로 설정값을 주입받는다.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+  static final String PREFIX = "deflate:";
+
+  private final boolean enabled;
+  private final int minLength;
+
+  public CompressedTextConverter(
+      @Value("${notification.content.compression.enabled:false}") boolean enabled,
+      @Value("${notification.content.compression.min-length:1024}") int minLength) {
+    this.enabled = enabled;
+    this.minLength = minLength;
+  }
+
+  @Override
+  public String convertToDatabaseColumn(String attribute) {
+    if (attribute == null) {
+      return null;
+    }
+
+    // 접두사로 시작하는 원문은 조회 시 압축값과 구분되도록 설정과 관계없이 압축
+    boolean ambiguous = attribute.startsWith(PREFIX);
+    if (!ambiguous && (!enabled || attribute.length() < minLength)) {
+      return attribute;
+    }
+
+    String compressed = PREFIX + Base64.getEncoder().encodeToString(deflate(attribute));
+    return ambiguous || compressed.length() < attribute.length() ? compressed : attribute;
+  }
+
+  @Override
+  public String convertToEntityAttribute(String dbData) {
+    if (dbData == null || !dbData.startsWith(PREFIX)) {
+      return dbData;
+    }
+
+    return inflate(Base64.getDecoder().decode(dbData.substring(PREFIX.length())));
+  }
+
+  private byte[] deflate(String value) {
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    try {
+      deflater.setInput(value.getBytes(StandardCharsets.UTF_8));
+      deflater.finish();
+
+      ByteArrayOutputStream output = new ByteArrayOutputStream(value.length() / 4);
+      byte[] buffer = new byte[8192];
+      while (!deflater.finished()) {
+        output.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return output.toByteArray();
+
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private String inflate(byte[] compressed) {
+    Inflater inflater = new Inflater(true);
+    try {
+      inflater.setInput(compressed);
+
+      ByteArrayOutputStream output = new ByteArrayOutputStream(compressed.length * 4);
+      byte[] buffer = new byte[8192];
+      while (!inflater.finished()) {
+        int length = inflater.inflate(buffer);
+        if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new IllegalArgumentException("압축된 본문이 손상되었습니다.");
+        }
+        output.write(buffer, 0, length);
+      }
+      return output.toString(StandardCharsets.UTF_8);
+
+    } catch (DataFormatException e) {
+      throw new IllegalArgumentException("압축된 본문이 손상되었습니다.", e);
+    } finally {
+      inflater.end();
+    }
+  }
+}
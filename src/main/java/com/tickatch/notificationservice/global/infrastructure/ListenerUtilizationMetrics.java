@@ -0,0 +1,62 @@
+package com.tickatch.notificationservice.global.infrastructure;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * RabbitMQ 리스너 컨테이너 사용률 지표.
+ *
+ * <p>큐별로 활성 컨슈머 수({@code notification.listener.consumers}), 처리 중인 메시지 수({@code
+ * notification.listener.in-flight}), 처리 시간({@code notification.listener.process})을 기록한다. 처리 중 수를
+ * 컨슈머 수로 나누면 순간 사용률이 된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ListenerUtilizationMetrics {
+
+  private static final String TAG_QUEUE = "queue";
+
+  private final MeterRegistry meterRegistry;
+
+  /** 리스너 호출 구간을 측정하는 어드바이스 생성 */
+  public MethodInterceptor advice(String queue) {
+    AtomicInteger inFlight = new AtomicInteger();
+    Gauge.builder("notification.listener.in-flight", inFlight, AtomicInteger::get)
+        .description("리스너에서 처리 중인 메시지(배치) 수")
+        .tag(TAG_QUEUE, queue)
+        .register(meterRegistry);
+    Timer timer =
+        Timer.builder("notification.listener.process")
+            .description("리스너 처리 시간")
+            .tag(TAG_QUEUE, queue)
+            .register(meterRegistry);
+
+    return invocation -> {
+      inFlight.incrementAndGet();
+      Timer.Sample sample = Timer.start(meterRegistry);
+      try {
+        return invocation.proceed();
+      } finally {
+        sample.stop(timer);
+        inFlight.decrementAndGet();
+      }
+    };
+  }
+
+  /** 컨테이너의 활성 컨슈머 수 지표 등록 */
+  public void bindConsumers(String queue, SimpleMessageListenerContainer container) {
+    Gauge.builder(
+            "notification.listener.consumers",
+            container,
+            SimpleMessageListenerContainer::getActiveConsumerCount)
+        .description("활성 컨슈머 수")
+        .tag(TAG_QUEUE, queue)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,130 @@
+package com.tickatch.notificationservice.global.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 알림 처리 단계별 지표.
+ *
+ * <p>템플릿 로드/렌더링, QR 코드 인코딩, 알림 저장, 발행, 발송 결과 반영 구간을 {@link Stage}별 타이머로 기록하고, 모든 타이머에 성공 여부({@code
+ * outcome=success|failure}) 태그를 붙인다. 발행 메시지 크기({@code notification.payload.size})와 발송 결과 반영
+ * 건수({@code notification.result.applied})도 함께 기록한다.
+ */
+@Component
+public class NotificationMetrics {
+
+  public static final String TAG_CHANNEL = "channel";
+  public static final String TAG_TEMPLATE_CODE = "templateCode";
+
+  private static final String TAG_OUTCOME = "outcome";
+  private static final String OUTCOME_SUCCESS = "success";
+  private static final String OUTCOME_FAILURE = "failure";
+
+  /** 측정 단계 */
+  public enum Stage {
+    TEMPLATE_LOAD("notification.template.load", "템플릿 파일 로드 및 컴파일 시간 (캐시 미스)"),
+    TEMPLATE_RENDER("notification.template.render", "템플릿 렌더링 시간"),
+    QRCODE_ENCODE("notification.qrcode.encode", "QR 코드 이미지 인코딩 시간 (캐시 미스)"),
+    DB_INSERT("notification.db.insert", "알림 저장 시간 (저장부터 커밋까지)"),
+    PUBLISH("notification.publish", "발송 이벤트 발행 시간 (발행부터 publisher confirm까지)"),
+    RESULT_UPDATE("notification.result.update", "발송 결과 반영 시간 (반영부터 커밋까지)");
+
+    private final String metricName;
+    private final String description;
+
+    Stage(String metricName, String description) {
+      this.metricName = metricName;
+      this.description = description;
+    }
+  }
+
+  private final MeterRegistry meterRegistry;
+  private final Map<Stage, Meter.MeterProvider<Timer>> timers = new EnumMap<>(Stage.class);
+  private final Meter.MeterProvider<DistributionSummary> payloadSizes;
+  private final Meter.MeterProvider<Counter> appliedResults;
+
+  public NotificationMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+
+    for (Stage stage : Stage.values()) {
+      timers.put(
+          stage,
+          Timer.builder(stage.metricName)
+              .description(stage.description)
+              .withRegistry(meterRegistry));
+    }
+    this.payloadSizes =
+        DistributionSummary.builder("notification.payload.size")
+            .description("발행 메시지 본문 크기")
+            .baseUnit("bytes")
+            .withRegistry(meterRegistry);
+    this.appliedResults =
+        Counter.builder("notification.result.applied")
+            .description("발송 결과 반영 건수 (무시된 중복/지연 결과 포함)")
+            .withRegistry(meterRegistry);
+  }
+
+  /** 구간 측정 시작 */
+  public Timer.Sample start() {
+    return Timer.start(meterRegistry);
+  }
+
+  /** 구간 측정 종료 (tags는 키, 값 순서) */
+  public void stop(Timer.Sample sample, Stage stage, boolean success, String... tags) {
+    sample.stop(
+        timers
+            .get(stage)
+            .withTags(Tags.of(tags).and(TAG_OUTCOME, success ? OUTCOME_SUCCESS : OUTCOME_FAILURE)));
+  }
+
+  /** 현재 트랜잭션이 끝날 때 측정 종료 (커밋 성공 여부를 결과로 기록, 트랜잭션 밖이면 즉시 종료) */
+  public void stopAfterCompletion(Timer.Sample sample, Stage stage, String... tags) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      stop(sample, stage, true, tags);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            stop(sample, stage, status == STATUS_COMMITTED, tags);
+          }
+        });
+  }
+
+  /** 작업 실행 시간 측정 (예외가 발생하면 실패로 기록) */
+  public <T> T record(Stage stage, Supplier<T> action, String... tags) {
+    Timer.Sample sample = start();
+    boolean success = false;
+    try {
+      T result = action.get();
+      success = true;
+      return result;
+    } finally {
+      stop(sample, stage, success, tags);
+    }
+  }
+
+  /** 발행 메시지 본문 크기 기록 */
+  public void recordPayloadSize(String routingKey, String format, int bytes) {
+    payloadSizes.withTags("routingKey", routingKey, "format", format).record(bytes);
+  }
+
+  /** 발송 결과 반영 건수 기록 (status: SENT, FAILED, IGNORED) */
+  public void countAppliedResults(String status, int count) {
+    if (count > 0) {
+      appliedResults.withTags("status", status).increment(count);
+    }
+  }
+}
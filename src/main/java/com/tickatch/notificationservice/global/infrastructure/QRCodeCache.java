@@ -0,0 +1,58 @@
+package com.tickatch.notificationservice.global.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인코딩된 QR 코드 이미지 캐시.
+ *
+ * <p>같은 티켓의 재시도, DLQ 재처리, 중복 이벤트는 동일한 검증 URL로 QR 코드를 다시 만들기 때문에 (대상, 형식, 크기) 단위로 인코딩 결과를 캐시하여 이미지
+ * 생성 과정을 건너뛴다. 이미지 바이트 합계로 용량을 제한하고 일정 시간이 지나면 만료된다. 적중률 지표는 {@code
+ * cache.*{cache=notification.qrcode}} 이름으로 Micrometer에 노출된다.
+ */
+@Component
+public class QRCodeCache {
+
+  private static final String CACHE_NAME = "notification.qrcode";
+
+  private final Cache<Key, byte[]> cache;
+
+  public QRCodeCache(
+      MeterRegistry meterRegistry,
+      @Value("${notification.qrcode.cache.max-bytes:33554432}") long maxBytes,
+      @Value("${notification.qrcode.cache.ttl:30m}") Duration ttl) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((Key key, byte[] image) -> image.length)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * 캐시된 QR 코드 이미지를 반환하고, 없으면 생성하여 저장한다.
+   *
+   * <p>반환된 배열은 캐시와 공유되므로 호출자는 수정해서는 안 된다.
+   *
+   * @param target QR 코드에 담길 값
+   * @param format 이미지 형식
+   * @param size 이미지 한 변의 픽셀 크기
+   * @param generator 캐시 미스 시 이미지 생성 함수
+   * @return 인코딩된 이미지 바이트
+   */
+  public byte[] get(
+      String target, QRCodeImageFormat format, int size, Function<String, byte[]> generator) {
+    return cache.get(new Key(target, format, size), key -> generator.apply(key.target()));
+  }
+
+  private record Key(String target, QRCodeImageFormat format, int size) {}
+}
@@ -0,0 +1,85 @@
+package com.tickatch.notificationservice.global.infrastructure;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriter;
+import javax.imageio.spi.ImageWriterSpi;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * QR 코드 인코딩 자원 풀.
+ *
+ * <p>{@link QRCodeEncodingContext}를 빌려주고 돌려받아 JPEG 라이터, Deflater, 래스터와 출력 버퍼를 호출 간에 재사용한다. 풀이 비어
+ * 있으면 기다리지 않고 새 컨텍스트를 만들며, 반납 시 풀이 가득 차 있으면 폐기한다. 따라서 컨슈머 동시성이 풀 크기를 넘어도 처리량이 막히지 않는다.
+ */
+@Component
+public class QRCodeEncoderPool implements DisposableBean {
+
+  private final ImageWriterSpi jpegWriterSpi;
+  private final BlockingQueue<QRCodeEncodingContext> idle;
+
+  public QRCodeEncoderPool(
+      MeterRegistry meterRegistry, @Value("${notification.qrcode.encoder.pool-size:16}") int size) {
+    this.jpegWriterSpi = findJpegWriterSpi();
+    this.idle = new ArrayBlockingQueue<>(size);
+
+    Gauge.builder("notification.qrcode.encoder.pool.idle", idle, BlockingQueue::size)
+        .description("대기 중인 QR 코드 인코딩 컨텍스트 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 풀에서 빌린 컨텍스트로 인코딩 작업을 수행합니다.
+   *
+   * @param task 인코딩 작업 (반환값은 컨텍스트 버퍼를 참조해서는 안 된다)
+   * @return 작업 결과
+   */
+  public <T> T execute(EncodingTask<T> task) throws IOException {
+    QRCodeEncodingContext context = idle.poll();
+    if (context == null) {
+      context = new QRCodeEncodingContext(jpegWriterSpi);
+    }
+
+    boolean reusable = false;
+    try {
+      T result = task.apply(context);
+      reusable = true;
+      return result;
+    } finally {
+      // 작업 중 예외가 발생한 컨텍스트는 상태를 보장할 수 없으므로 폐기
+      if (!reusable || !idle.offer(context)) {
+        context.close();
+      }
+    }
+  }
+
+  @Override
+  public void destroy() {
+    QRCodeEncodingContext context;
+    while ((context = idle.poll()) != null) {
+      context.close();
+    }
+  }
+
+  private static ImageWriterSpi findJpegWriterSpi() {
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+    try {
+      return writer.getOriginatingProvider();
+    } finally {
+      writer.dispose();
+    }
+  }
+
+  /** 인코딩 컨텍스트를 사용하는 작업 */
+  @FunctionalInterface
+  public interface EncodingTask<T> {
+
+    T apply(QRCodeEncodingContext context) throws IOException;
+  }
+}
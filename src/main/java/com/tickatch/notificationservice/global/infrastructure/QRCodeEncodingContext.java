@@ -0,0 +1,111 @@
+package com.tickatch.notificationservice.global.infrastructure;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.spi.ImageWriterSpi;
+
+/**
+ * QR 코드 이미지 인코딩에 재사용되는 자원 묶음.
+ *
+ * <p>Deflater, CRC32, JPEG {@link ImageWriter}, 래스터와 출력 버퍼를 담고 있으며 {@link QRCodeEncoderPool}에서 빌려 한
+ * 번에 한 스레드만 사용한다. 스레드 안전하지 않다.
+ */
+public final class QRCodeEncodingContext {
+
+  private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+  private final CRC32 crc = new CRC32();
+  private final Buffer outputBuffer = new Buffer(8 * 1024);
+  private final Buffer deflateBuffer = new Buffer(4 * 1024);
+  private final byte[] deflateChunk = new byte[4 * 1024];
+  private final ImageWriter jpegWriter;
+  private final ImageWriteParam jpegWriteParam;
+
+  private byte[] scanlines = new byte[0];
+  private BufferedImage grayImage;
+
+  QRCodeEncodingContext(ImageWriterSpi jpegWriterSpi) throws IOException {
+    this.jpegWriter = jpegWriterSpi.createWriterInstance();
+    this.jpegWriteParam = jpegWriter.getDefaultWriteParam();
+    this.jpegWriteParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+  }
+
+  /** 초기화된 Deflater */
+  Deflater deflater() {
+    deflater.reset();
+    return deflater;
+  }
+
+  /** 초기화된 CRC32 */
+  CRC32 crc() {
+    crc.reset();
+    return crc;
+  }
+
+  /** 비워진 최종 출력 버퍼 */
+  Buffer outputBuffer() {
+    outputBuffer.reset();
+    return outputBuffer;
+  }
+
+  /** 비워진 압축 데이터 버퍼 */
+  Buffer deflateBuffer() {
+    deflateBuffer.reset();
+    return deflateBuffer;
+  }
+
+  /** Deflater 출력용 임시 배열 */
+  byte[] deflateChunk() {
+    return deflateChunk;
+  }
+
+  /** 최소 길이 이상의 스캔라인 배열 (내용은 초기화되지 않음) */
+  byte[] scanlines(int minLength) {
+    if (scanlines.length < minLength) {
+      scanlines = new byte[minLength];
+    }
+    return scanlines;
+  }
+
+  /** 지정한 크기의 그레이스케일 래스터 (크기가 같으면 재사용, 내용은 초기화되지 않음) */
+  BufferedImage grayImage(int width, int height) {
+    if (grayImage == null || grayImage.getWidth() != width || grayImage.getHeight() != height) {
+      grayImage = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+    }
+    return grayImage;
+  }
+
+  /** JPEG 라이터 */
+  ImageWriter jpegWriter() {
+    return jpegWriter;
+  }
+
+  /** 지정한 품질로 설정된 JPEG 압축 파라미터 */
+  ImageWriteParam jpegWriteParam(float quality) {
+    jpegWriteParam.setCompressionQuality(quality);
+    return jpegWriteParam;
+  }
+
+  /** 보유 자원 해제 */
+  void close() {
+    deflater.end();
+    jpegWriter.dispose();
+  }
+
+  /** 내부 배열을 복사 없이 노출하는 재사용 출력 버퍼 */
+  static final class Buffer extends ByteArrayOutputStream {
+
+    Buffer(int size) {
+      super(size);
+    }
+
+    /** 내부 배열 (유효 길이는 {@link #size()}) */
+    byte[] array() {
+      return buf;
+    }
+  }
+}
@@ -0,0 +1,223 @@
+package com.tickatch.notificationservice.global.infrastructure;
+
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import org.springframework.stereotype.Component;
+
+/**
+ * QR 코드 모듈 격자를 이미지로 직접 인코딩하는 인코더.
+ *
+ * <p>BitMatrix, ARGB BufferedImage, Graphics2D 재그리기를 거치지 않고 모듈 격자에서 바로 1비트 흑백 PNG를 쓰거나, JPEG 인코딩용
+ * 8비트 그레이스케일 래스터를 채운다. 모듈 배치(배율, 여백)는 ZXing {@code QRCodeWriter}와 동일하게 계산하므로 기존과 같은 픽셀 이미지가 만들어진다.
+ * 작업 버퍼는 {@link QRCodeEncodingContext}에서 재사용한다.
+ */
+@Component
+public class QRCodeImageEncoder {
+
+  private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+  private static final byte[] IHDR = "IHDR".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] IDAT = "IDAT".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] IEND = "IEND".getBytes(StandardCharsets.US_ASCII);
+  private static final int PNG_BIT_DEPTH = 1;
+  private static final int PNG_COLOR_TYPE_GRAYSCALE = 0;
+  private static final byte PNG_FILTER_NONE = 0;
+
+  private static final byte WHITE = (byte) 0xFF;
+  private static final byte BLACK = 0;
+
+  /**
+   * 모듈 격자를 1비트 그레이스케일 PNG로 인코딩합니다.
+   *
+   * @param context 인코딩 컨텍스트
+   * @param modules QR 코드 모듈 격자
+   * @param size 이미지 한 변의 최소 픽셀 크기
+   * @param quietZone 모듈 단위 여백
+   * @return PNG 바이트 배열
+   */
+  public byte[] encodePng(
+      QRCodeEncodingContext context, ByteMatrix modules, int size, int quietZone) {
+    Layout layout = Layout.of(modules, size, quietZone);
+    QRCodeEncodingContext.Buffer out = context.outputBuffer();
+
+    out.writeBytes(PNG_SIGNATURE);
+    writeHeaderChunk(context, out, layout);
+    writeDataChunk(context, out, modules, layout);
+    writeChunk(context, out, IEND, new byte[0], 0);
+
+    return out.toByteArray();
+  }
+
+  /**
+   * 모듈 격자를 8비트 그레이스케일 이미지로 래스터화합니다 (JPEG 인코딩용).
+   *
+   * <p>반환된 이미지는 컨텍스트가 소유하므로 컨텍스트를 반납하기 전까지만 사용해야 한다.
+   *
+   * @param context 인코딩 컨텍스트
+   * @param modules QR 코드 모듈 격자
+   * @param size 이미지 한 변의 최소 픽셀 크기
+   * @param quietZone 모듈 단위 여백
+   * @return {@link BufferedImage#TYPE_BYTE_GRAY} 이미지
+   */
+  public BufferedImage toGrayImage(
+      QRCodeEncodingContext context, ByteMatrix modules, int size, int quietZone) {
+    Layout layout = Layout.of(modules, size, quietZone);
+
+    BufferedImage image = context.grayImage(layout.width(), layout.height());
+    byte[] pixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+    Arrays.fill(pixels, WHITE);
+
+    byte[][] grid = modules.getArray();
+    for (int moduleY = 0; moduleY < modules.getHeight(); moduleY++) {
+      int rowStart = (layout.topPadding() + moduleY * layout.multiple()) * layout.width();
+
+      // 모듈 한 줄에 해당하는 첫 픽셀 행을 채운 뒤 배율만큼 복사
+      for (int moduleX = 0; moduleX < modules.getWidth(); moduleX++) {
+        if (grid[moduleY][moduleX] == 1) {
+          int from = rowStart + layout.leftPadding() + moduleX * layout.multiple();
+          Arrays.fill(pixels, from, from + layout.multiple(), BLACK);
+        }
+      }
+      for (int i = 1; i < layout.multiple(); i++) {
+        System.arraycopy(pixels, rowStart, pixels, rowStart + i * layout.width(), layout.width());
+      }
+    }
+
+    return image;
+  }
+
+  /**
+   * 모듈 하나가 차지하는 픽셀 수(정수 배율)를 계산합니다.
+   *
+   * @param modules QR 코드 모듈 격자
+   * @param size 이미지 한 변의 최소 픽셀 크기
+   * @param quietZone 모듈 단위 여백
+   * @return 모듈당 픽셀 수
+   */
+  public int moduleScale(ByteMatrix modules, int size, int quietZone) {
+    return Layout.of(modules, size, quietZone).multiple();
+  }
+
+  private void writeHeaderChunk(
+      QRCodeEncodingContext context, QRCodeEncodingContext.Buffer out, Layout layout) {
+    byte[] header = new byte[13];
+
+    putInt(header, 0, layout.width());
+    putInt(header, 4, layout.height());
+    header[8] = PNG_BIT_DEPTH;
+    header[9] = PNG_COLOR_TYPE_GRAYSCALE;
+    header[10] = 0; // 압축 방식 (deflate)
+    header[11] = 0; // 필터 방식
+    header[12] = 0; // 인터레이스 없음
+
+    writeChunk(context, out, IHDR, header, header.length);
+  }
+
+  private void writeDataChunk(
+      QRCodeEncodingContext context,
+      QRCodeEncodingContext.Buffer out,
+      ByteMatrix modules,
+      Layout layout) {
+    // 스캔라인 = 필터 바이트 + 1비트 픽셀 (1 = 흰색, 0 = 검정)
+    int stride = (layout.width() + 7) / 8 + 1;
+    byte[] scanlines = context.scanlines(stride * layout.height());
+    Arrays.fill(scanlines, 0, stride * layout.height(), WHITE);
+    for (int y = 0; y < layout.height(); y++) {
+      scanlines[y * stride] = PNG_FILTER_NONE;
+    }
+
+    byte[][] grid = modules.getArray();
+    for (int moduleY = 0; moduleY < modules.getHeight(); moduleY++) {
+      int rowStart = (layout.topPadding() + moduleY * layout.multiple()) * stride;
+
+      for (int moduleX = 0; moduleX < modules.getWidth(); moduleX++) {
+        if (grid[moduleY][moduleX] == 1) {
+          clearBits(
+              scanlines,
+              rowStart + 1,
+              layout.leftPadding() + moduleX * layout.multiple(),
+              layout.multiple());
+        }
+      }
+      for (int i = 1; i < layout.multiple(); i++) {
+        System.arraycopy(scanlines, rowStart, scanlines, rowStart + i * stride, stride);
+      }
+    }
+
+    Deflater deflater = context.deflater();
+    deflater.setInput(scanlines, 0, stride * layout.height());
+    deflater.finish();
+
+    QRCodeEncodingContext.Buffer compressed = context.deflateBuffer();
+    byte[] chunk = context.deflateChunk();
+    while (!deflater.finished()) {
+      int length = deflater.deflate(chunk);
+      compressed.write(chunk, 0, length);
+    }
+
+    writeChunk(context, out, IDAT, compressed.array(), compressed.size());
+  }
+
+  /** 행 데이터의 x 위치부터 length 픽셀을 검정(0)으로 설정 */
+  private void clearBits(byte[] row, int offset, int x, int length) {
+    for (int px = x; px < x + length; px++) {
+      row[offset + (px >> 3)] &= (byte) ~(0x80 >>> (px & 7));
+    }
+  }
+
+  private void writeChunk(
+      QRCodeEncodingContext context,
+      QRCodeEncodingContext.Buffer out,
+      byte[] type,
+      byte[] data,
+      int length) {
+    CRC32 crc = context.crc();
+    crc.update(type);
+    crc.update(data, 0, length);
+
+    writeInt(out, length);
+    out.writeBytes(type);
+    out.write(data, 0, length);
+    writeInt(out, (int) crc.getValue());
+  }
+
+  private void writeInt(QRCodeEncodingContext.Buffer out, int value) {
+    out.write(value >>> 24);
+    out.write(value >>> 16);
+    out.write(value >>> 8);
+    out.write(value);
+  }
+
+  private void putInt(byte[] target, int offset, int value) {
+    target[offset] = (byte) (value >>> 24);
+    target[offset + 1] = (byte) (value >>> 16);
+    target[offset + 2] = (byte) (value >>> 8);
+    target[offset + 3] = (byte) value;
+  }
+
+  /**
+   * 출력 이미지 내 모듈 배치.
+   *
+   * <p>ZXing {@code QRCodeWriter#renderResult}와 동일한 규칙으로 정수 배율과 중앙 정렬 여백을 계산한다.
+   */
+  private record Layout(int width, int height, int multiple, int leftPadding, int topPadding) {
+
+    static Layout of(ByteMatrix modules, int size, int quietZone) {
+      int inputWidth = modules.getWidth();
+      int inputHeight = modules.getHeight();
+      int qrWidth = inputWidth + (quietZone * 2);
+      int qrHeight = inputHeight + (quietZone * 2);
+      int outputWidth = Math.max(size, qrWidth);
+      int outputHeight = Math.max(size, qrHeight);
+      int multiple = Math.min(outputWidth / qrWidth, outputHeight / qrHeight);
+      int leftPadding = (outputWidth - (inputWidth * multiple)) / 2;
+      int topPadding = (outputHeight - (inputHeight * multiple)) / 2;
+
+      return new Layout(outputWidth, outputHeight, multiple, leftPadding, topPadding);
+    }
+  }
+}
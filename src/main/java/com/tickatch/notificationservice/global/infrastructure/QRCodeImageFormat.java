@@ -0,0 +1,22 @@
+package com.tickatch.notificationservice.global.infrastructure;
+
+/** QR 코드 이미지 형식 */
+public enum QRCodeImageFormat {
+  PNG("image/png"),
+  JPEG("image/jpeg");
+
+  private final String mimeType;
+
+  QRCodeImageFormat(String mimeType) {
+    this.mimeType = mimeType;
+  }
+
+  public String mimeType() {
+    return mimeType;
+  }
+
+  /** Base64 data URI 접두어 (예: {@code data:image/png;base64,}) */
+  public String dataUriPrefix() {
+    return "data:" + mimeType + ";base64,";
+  }
+}
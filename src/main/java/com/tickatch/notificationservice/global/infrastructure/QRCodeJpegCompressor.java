@@ -0,0 +1,110 @@
+package com.tickatch.notificationservice.global.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목표 용량 이하로 QR 코드 이미지를 JPEG 압축하는 컴프레서.
+ *
+ * <p>모듈 배율로 예상 용량을 계산해 용량 한도를 넘지 않는 가장 높은 품질을 먼저 고르므로 일반적인 경우 한 번만 인코딩한다. 예측이 빗나가 한도를 넘으면 다음 품질로
+ * 재인코딩하고 {@code notification.qrcode.jpeg.reencode} 카운터를 증가시킨다.
+ */
+@Slf4j
+@Component
+public class QRCodeJpegCompressor {
+
+  /** 시도할 압축 품질 (높은 품질 우선) */
+  private static final float[] QUALITY_LADDER = {0.9f, 0.8f, 0.7f};
+
+  /** 품질 0.9 대비 예상 용량 비율 (흑백 QR 이미지 실측치) */
+  private static final double[] RELATIVE_SIZE = {1.0, 0.78, 0.68};
+
+  /** 품질 0.9에서 픽셀당 최대 바이트 수 (모듈 경계가 가장 촘촘할 때의 실측 최대치 0.69에 여유를 둔 값) */
+  private static final double MAX_BYTES_PER_PIXEL = 0.75;
+
+  /** 모듈 배율이 이 값 이상이면 8x8 DCT 블록 중 경계가 없는 블록이 늘어 용량이 배율에 반비례해 줄어든다 */
+  private static final int DENSE_MODULE_SCALE = 6;
+
+  private final Counter reencodeCounter;
+
+  public QRCodeJpegCompressor(MeterRegistry meterRegistry) {
+    this.reencodeCounter =
+        Counter.builder("notification.qrcode.jpeg.reencode")
+            .description("용량 초과로 인한 MMS QR 코드 JPEG 재인코딩 횟수")
+            .register(meterRegistry);
+  }
+
+  /**
+   * 이미지를 용량 한도 이하의 JPEG로 압축합니다.
+   *
+   * @param context 인코딩 컨텍스트 (JPEG 라이터와 출력 버퍼 재사용)
+   * @param image 그레이스케일 QR 코드 이미지
+   * @param moduleScale 모듈당 픽셀 수
+   * @param maxBytes 최대 용량 (바이트)
+   * @return JPEG 바이트 배열
+   */
+  public byte[] compress(
+      QRCodeEncodingContext context, BufferedImage image, int moduleScale, int maxBytes)
+      throws IOException {
+    int start = predictQualityIndex(image, moduleScale, maxBytes);
+    int size = 0;
+
+    for (int i = start; i < QUALITY_LADDER.length; i++) {
+      QRCodeEncodingContext.Buffer out = write(context, image, QUALITY_LADDER[i]);
+      size = out.size();
+
+      if (size <= maxBytes) {
+        log.debug("JPG 변환 완료: size={}bytes, quality={}", size, QUALITY_LADDER[i]);
+        return out.toByteArray();
+      }
+
+      if (i + 1 < QUALITY_LADDER.length) {
+        log.warn(
+            "QR 코드 크기 초과, 재압축: {}bytes, quality={} → {}",
+            size,
+            QUALITY_LADDER[i],
+            QUALITY_LADDER[i + 1]);
+        reencodeCounter.increment();
+      }
+    }
+
+    throw new RuntimeException(
+        String.format("QR 코드 크기가 %dKB를 초과했습니다: %dbytes", maxBytes / 1024, size));
+  }
+
+  /** 예상 용량이 한도 이하인 가장 높은 품질의 인덱스 (모두 초과하면 가장 낮은 품질) */
+  private int predictQualityIndex(BufferedImage image, int moduleScale, int maxBytes) {
+    double density = Math.min(1.0, (double) DENSE_MODULE_SCALE / Math.max(1, moduleScale));
+    double estimate = (double) image.getWidth() * image.getHeight() * MAX_BYTES_PER_PIXEL * density;
+
+    for (int i = 0; i < QUALITY_LADDER.length; i++) {
+      if (estimate * RELATIVE_SIZE[i] <= maxBytes) {
+        return i;
+      }
+    }
+    return QUALITY_LADDER.length - 1;
+  }
+
+  private QRCodeEncodingContext.Buffer write(
+      QRCodeEncodingContext context, BufferedImage image, float quality) throws IOException {
+    QRCodeEncodingContext.Buffer out = context.outputBuffer();
+    ImageWriter writer = context.jpegWriter();
+
+    try (ImageOutputStream ios = new MemoryCacheImageOutputStream(out)) {
+      writer.setOutput(ios);
+      writer.write(null, new IIOImage(image, null, null), context.jpegWriteParam(quality));
+    } finally {
+      writer.reset();
+    }
+
+    return out;
+  }
+}
@@ -1,19 +1,29 @@
 package com.tickatch.notificationservice.global.infrastructure;
 
 import io.github.tickatch.common.util.JsonUtils;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.aopalliance.aop.Advice;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.ExchangeBuilder;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 /**
  * RabbitMQ 설정 클래스.
@@ -47,6 +57,23 @@ public class RabbitMQConfig {
 
   public static final String ROUTING_KEY_SEND_RESULT = "notification-sender.result";
 
+  public static final String RESERVATION_CONTAINER_FACTORY = "reservationContainerFactory";
+
+  public static final String TICKET_CONTAINER_FACTORY = "ticketContainerFactory";
+
+  public static final String RESULT_CONTAINER_FACTORY = "resultContainerFactory";
+
+  public static final String RESULT_BATCH_CONTAINER_FACTORY = "resultBatchContainerFactory";
+
+  /** 처리 중 이벤트 지연 재전달용 대기 큐 접미사 (TTL 만료 시 원래 큐로 돌아감) */
+  public static final String WAIT_QUEUE_SUFFIX = ".wait";
+
+  @Value("${notification.listener.virtual-threads:false}")
+  private boolean virtualThreads;
+
+  @Value("${notification.dedup.redelivery-delay:30s}")
+  private Duration redeliveryDelay;
+
   /**
    * 예매 성공 관련 이벤트를 처리하는 Topic Exchange 설정.
    *
@@ -72,6 +99,16 @@ public class RabbitMQConfig {
         .build();
   }
 
+  /**
+   * 다른 소비자가 처리 중인 예매 성공 메시지를 지연 후 재전달하기 위한 대기 큐 생성.
+   *
+   * @return 예매 성공 대기 큐
+   */
+  @Bean
+  public Queue reservationCompletedWaitQueue() {
+    return waitQueue(QUEUE_RESERVATION_COMPLETED);
+  }
+
   /**
    * 예매 성공 관련 메시지를 큐와 Exchange에 바인딩한다.
    *
@@ -147,6 +184,16 @@ public class RabbitMQConfig {
         .build();
   }
 
+  /**
+   * 다른 소비자가 처리 중인 티켓 발행 메시지를 지연 후 재전달하기 위한 대기 큐 생성.
+   *
+   * @return 티켓 발행 대기 큐
+   */
+  @Bean
+  public Queue ticketIssuedWaitQueue() {
+    return waitQueue(QUEUE_TICKET_ISSUED);
+  }
+
   /**
    * 티켓 발행 관련 메시지를 큐와 Exchange에 바인딩한다.
    *
@@ -281,6 +328,192 @@ public class RabbitMQConfig {
     return new Jackson2JsonMessageConverter(JsonUtils.getObjectMapper());
   }
 
+  /**
+   * 예매 성공 큐 리스너 컨테이너 설정.
+   *
+   * @param configurer Spring Boot 기본 리스너 설정
+   * @param connectionFactory RabbitMQ 연결 팩토리
+   * @param metrics 리스너 사용률 지표
+   * @param concurrency 기본 컨슈머 수
+   * @param maxConcurrency 최대 컨슈머 수
+   * @param prefetch 컨슈머별 prefetch 수
+   * @return 예매 성공 큐용 리스너 컨테이너 팩토리
+   */
+  @Bean(RESERVATION_CONTAINER_FACTORY)
+  public SimpleRabbitListenerContainerFactory reservationContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory,
+      ListenerUtilizationMetrics metrics,
+      @Value("${notification.listener.reservation.concurrency:2}") int concurrency,
+      @Value("${notification.listener.reservation.max-concurrency:8}") int maxConcurrency,
+      @Value("${notification.listener.reservation.prefetch:20}") int prefetch) {
+    return createListenerContainerFactory(
+        configurer,
+        connectionFactory,
+        metrics,
+        QUEUE_RESERVATION_COMPLETED,
+        concurrency,
+        maxConcurrency,
+        prefetch);
+  }
+
+  /**
+   * 티켓 발행 큐 리스너 컨테이너 설정.
+   *
+   * <p>QR 코드 생성 등 처리 시간이 긴 메시지이므로 prefetch를 낮게 두어 컨슈머 간 부하를 고르게 분산한다.
+   *
+   * @param configurer Spring Boot 기본 리스너 설정
+   * @param connectionFactory RabbitMQ 연결 팩토리
+   * @param metrics 리스너 사용률 지표
+   * @param concurrency 기본 컨슈머 수
+   * @param maxConcurrency 최대 컨슈머 수
+   * @param prefetch 컨슈머별 prefetch 수
+   * @return 티켓 발행 큐용 리스너 컨테이너 팩토리
+   */
+  @Bean(TICKET_CONTAINER_FACTORY)
+  public SimpleRabbitListenerContainerFactory ticketContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory,
+      ListenerUtilizationMetrics metrics,
+      @Value("${notification.listener.ticket.concurrency:4}") int concurrency,
+      @Value("${notification.listener.ticket.max-concurrency:16}") int maxConcurrency,
+      @Value("${notification.listener.ticket.prefetch:5}") int prefetch) {
+    return createListenerContainerFactory(
+        configurer,
+        connectionFactory,
+        metrics,
+        QUEUE_TICKET_ISSUED,
+        concurrency,
+        maxConcurrency,
+        prefetch);
+  }
+
+  /**
+   * 알림 발송 결과 큐 리스너 컨테이너 설정 (일괄 처리 미사용 시).
+   *
+   * @param configurer Spring Boot 기본 리스너 설정
+   * @param connectionFactory RabbitMQ 연결 팩토리
+   * @param metrics 리스너 사용률 지표
+   * @param concurrency 기본 컨슈머 수
+   * @param maxConcurrency 최대 컨슈머 수
+   * @param prefetch 컨슈머별 prefetch 수
+   * @return 알림 발송 결과 큐용 리스너 컨테이너 팩토리
+   */
+  @Bean(RESULT_CONTAINER_FACTORY)
+  @ConditionalOnProperty(
+      name = "notification.result.batch.enabled",
+      havingValue = "false",
+      matchIfMissing = true)
+  public SimpleRabbitListenerContainerFactory resultContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory,
+      ListenerUtilizationMetrics metrics,
+      @Value("${notification.listener.result.concurrency:2}") int concurrency,
+      @Value("${notification.listener.result.max-concurrency:8}") int maxConcurrency,
+      @Value("${notification.listener.result.prefetch:50}") int prefetch) {
+    return createListenerContainerFactory(
+        configurer,
+        connectionFactory,
+        metrics,
+        QUEUE_SEND_RESULT,
+        concurrency,
+        maxConcurrency,
+        prefetch);
+  }
+
+  /**
+   * 알림 발송 결과 일괄 수신용 리스너 컨테이너 설정.
+   *
+   * <p>최대 batchSize건 또는 receiveTimeout 동안 모은 메시지를 한 번에 전달하며, 리스너가 정상 반환(트랜잭션 커밋)한 뒤에 묶음 전체를 ack 한다.
+   *
+   * @param configurer Spring Boot 기본 리스너 설정
+   * @param connectionFactory RabbitMQ 연결 팩토리
+   * @param metrics 리스너 사용률 지표
+   * @param concurrency 기본 컨슈머 수
+   * @param maxConcurrency 최대 컨슈머 수
+   * @param batchSize 한 번에 처리할 최대 메시지 수
+   * @param receiveTimeout 묶음을 채우기 위해 기다리는 최대 시간
+   * @return 일괄 수신용 리스너 컨테이너 팩토리
+   */
+  @Bean(RESULT_BATCH_CONTAINER_FACTORY)
+  @ConditionalOnProperty(name = "notification.result.batch.enabled", havingValue = "true")
+  public SimpleRabbitListenerContainerFactory resultBatchContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory,
+      ListenerUtilizationMetrics metrics,
+      @Value("${notification.listener.result.concurrency:2}") int concurrency,
+      @Value("${notification.listener.result.max-concurrency:8}") int maxConcurrency,
+      @Value("${notification.result.batch.size:200}") int batchSize,
+      @Value("${notification.result.batch.receive-timeout:200ms}") Duration receiveTimeout) {
+    SimpleRabbitListenerContainerFactory factory =
+        createListenerContainerFactory(
+            configurer,
+            connectionFactory,
+            metrics,
+            QUEUE_SEND_RESULT,
+            concurrency,
+            maxConcurrency,
+            Math.max(batchSize, 250));
+    factory.setBatchListener(true);
+    factory.setConsumerBatchEnabled(true);
+    factory.setBatchSize(batchSize);
+    factory.setReceiveTimeout(receiveTimeout.toMillis());
+    factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+    return factory;
+  }
+
+  /**
+   * 큐별 리스너 컨테이너 팩토리를 생성한다.
+   *
+   * <p>{@code notification.listener.virtual-threads}가 켜져 있으면 컨슈머를 가상 스레드에서 실행해, QR 코드 생성이나 JPA 쓰기처럼
+   * 블로킹되는 작업이 고정된 플랫폼 스레드 풀에 묶이지 않도록 한다.
+   */
+  private SimpleRabbitListenerContainerFactory createListenerContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory,
+      ListenerUtilizationMetrics metrics,
+      String queue,
+      int concurrency,
+      int maxConcurrency,
+      int prefetch) {
+    SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+    configurer.configure(factory, connectionFactory);
+    factory.setConcurrentConsumers(concurrency);
+    factory.setMaxConcurrentConsumers(maxConcurrency);
+    factory.setPrefetchCount(prefetch);
+
+    if (virtualThreads) {
+      SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(queue + "-");
+      executor.setVirtualThreads(true);
+      factory.setTaskExecutor(executor);
+    }
+
+    // Boot가 설정한 어드바이스(spring.rabbitmq.listener.simple.retry.* 재시도 등)를 유지하고 지표 어드바이스를 덧붙임
+    List<Advice> adviceChain = new ArrayList<>();
+    Advice[] bootAdviceChain = factory.getAdviceChain();
+    if (bootAdviceChain != null) {
+      adviceChain.addAll(Arrays.asList(bootAdviceChain));
+    }
+    adviceChain.add(metrics.advice(queue));
+    factory.setAdviceChain(adviceChain.toArray(Advice[]::new));
+    factory.setContainerCustomizer(container -> metrics.bindConsumers(queue, container));
+    return factory;
+  }
+
+  /**
+   * 소비자가 없는 대기 큐. 메시지가 redelivery-delay 동안 머문 뒤 기본 Exchange를 통해 원래 큐로 dead-letter 된다.
+   *
+   * @param queue 원래 큐 이름
+   * @return 대기 큐
+   */
+  private Queue waitQueue(String queue) {
+    return QueueBuilder.durable(queue + WAIT_QUEUE_SUFFIX)
+        .ttl(Math.toIntExact(redeliveryDelay.toMillis()))
+        .withArgument("x-dead-letter-exchange", "")
+        .withArgument("x-dead-letter-routing-key", queue)
+        .build();
+  }
+
   /**
    * RabbitMQ 메시지 송신을 위한 템플릿 설정.
    *
@@ -293,6 +526,8 @@ public class RabbitMQConfig {
       ConnectionFactory connectionFactory, MessageConverter jsonMessageConverter) {
     RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
     rabbitTemplate.setMessageConverter(jsonMessageConverter);
+    // 라우팅되지 않은 메시지를 반환받아 발행 실패로 처리 (CorrelationData에 반환 메시지가 설정됨)
+    rabbitTemplate.setMandatory(true);
     return rabbitTemplate;
   }
 }
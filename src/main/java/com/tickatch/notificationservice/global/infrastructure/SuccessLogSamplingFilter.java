@@ -0,0 +1,56 @@
+package com.tickatch.notificationservice.global.infrastructure;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * 발송 성공 경로 로그 샘플링 필터.
+ *
+ * <p>{@link #SUCCESS} 마커가 붙은 INFO 이하 로그만 {@code sampleRate} 비율로 남긴다. 메시지 포맷팅과 인코딩 전에 판단하므로 버려진 로그는
+ * Logstash 인코딩/전송 비용이 없다. WARN 이상이거나 예외가 포함된 로그는 항상 남긴다.
+ *
+ * <p>비율은 {@code logback-spring.xml}에서 {@code notification.logging.success-sample-rate}로 설정한다 (1.0이면
+ * 모두 남김, 0.0이면 모두 버림).
+ */
+public class SuccessLogSamplingFilter extends TurboFilter {
+
+  /** 샘플링 대상 성공 경로 로그 마커 */
+  public static final Marker SUCCESS = MarkerFactory.getMarker("NOTIFICATION_SUCCESS");
+
+  private double sampleRate = 1.0;
+
+  public void setSampleRate(double sampleRate) {
+    this.sampleRate = sampleRate;
+  }
+
+  @Override
+  public void start() {
+    if (sampleRate < 0.0 || sampleRate > 1.0) {
+      addError("sampleRate는 0.0 이상 1.0 이하여야 합니다: " + sampleRate);
+      return;
+    }
+    super.start();
+  }
+
+  @Override
+  public FilterReply decide(
+      Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    if (!isStarted() || marker == null || t != null || !marker.contains(SUCCESS)) {
+      return FilterReply.NEUTRAL;
+    }
+    if (level != null && level.isGreaterOrEqual(Level.WARN)) {
+      return FilterReply.NEUTRAL;
+    }
+    if (sampleRate >= 1.0) {
+      return FilterReply.NEUTRAL;
+    }
+    return ThreadLocalRandom.current().nextDouble() < sampleRate
+        ? FilterReply.NEUTRAL
+        : FilterReply.DENY;
+  }
+}
@@ -0,0 +1,115 @@
+package com.tickatch.notificationservice.notification.application;
+
+import com.tickatch.notificationservice.notification.domain.AttachmentReference;
+import com.tickatch.notificationservice.notification.domain.NotificationAttachment;
+import com.tickatch.notificationservice.notification.domain.NotificationAttachmentRepository;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림 첨부파일 서비스.
+ *
+ * <p>QR 코드 등 이미지는 본문 해시로 한 번만 저장하고, 알림에는 참조만 남긴 뒤 발행 시점에 data URI로 복원한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttachmentService {
+
+  private static final String HASH_ALGORITHM = "SHA-256";
+
+  private final NotificationAttachmentRepository attachmentRepository;
+
+  /** 첨부파일 저장 (동일한 본문이 이미 있으면 재사용) */
+  @Transactional
+  public AttachmentReference store(byte[] data, String contentType) {
+    if (data.length > NotificationAttachment.MAX_SIZE_BYTES) {
+      throw new IllegalArgumentException("첨부파일 크기 제한을 초과했습니다: " + data.length + "bytes");
+    }
+
+    String id = hash(data);
+    int inserted =
+        attachmentRepository.insertIfAbsent(
+            id, contentType, data.length, data, LocalDateTime.now());
+
+    log.debug("첨부파일 저장: id={}, size={}bytes, created={}", id, data.length, inserted > 0);
+
+    return new AttachmentReference(id);
+  }
+
+  /** 첨부파일 참조를 data URI로 변환 (참조가 아니면 그대로 반환) */
+  @Transactional(readOnly = true)
+  public String resolveDataUri(String value) {
+    return AttachmentReference.parse(value).map(this::toDataUri).orElse(value);
+  }
+
+  /** 본문 안의 첨부파일 참조를 모두 data URI로 치환 */
+  @Transactional(readOnly = true)
+  public String resolveReferences(String content) {
+    if (content == null || !content.contains(AttachmentReference.PREFIX)) {
+      return content;
+    }
+
+    Matcher matcher = AttachmentReference.PATTERN.matcher(content);
+    StringBuilder resolved = new StringBuilder(content.length());
+    while (matcher.find()) {
+      String dataUri = toDataUri(new AttachmentReference(matcher.group(1)));
+      matcher.appendReplacement(resolved, Matcher.quoteReplacement(dataUri));
+    }
+    matcher.appendTail(resolved);
+
+    return resolved.toString();
+  }
+
+  /** 본문에서 참조하는 첨부파일 조회 (처음 등장한 순서, 중복 제외) */
+  @Transactional(readOnly = true)
+  public List<NotificationAttachment> findReferenced(String content) {
+    if (content == null || !content.contains(AttachmentReference.PREFIX)) {
+      return List.of();
+    }
+
+    Set<String> ids = new LinkedHashSet<>();
+    Matcher matcher = AttachmentReference.PATTERN.matcher(content);
+    while (matcher.find()) {
+      ids.add(matcher.group(1));
+    }
+
+    return ids.stream().map(id -> getAttachment(new AttachmentReference(id))).toList();
+  }
+
+  // Private helper methods
+
+  private NotificationAttachment getAttachment(AttachmentReference reference) {
+    return attachmentRepository
+        .findById(reference.id())
+        .orElseThrow(() -> new IllegalArgumentException("첨부파일을 찾을 수 없습니다: " + reference));
+  }
+
+  private String toDataUri(AttachmentReference reference) {
+    NotificationAttachment attachment = getAttachment(reference);
+
+    return "data:"
+        + attachment.getContentType()
+        + ";base64,"
+        + Base64.getEncoder().encodeToString(attachment.getData());
+  }
+
+  private String hash(byte[] data) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance(HASH_ALGORITHM).digest(data));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(HASH_ALGORITHM + " 알고리즘을 사용할 수 없습니다.", e);
+    }
+  }
+}
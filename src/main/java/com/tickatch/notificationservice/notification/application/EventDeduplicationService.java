@@ -0,0 +1,146 @@
+package com.tickatch.notificationservice.notification.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tickatch.notificationservice.notification.domain.ProcessedEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 통합 이벤트 중복 소비 방지 서비스.
+ *
+ * <p>처리를 마친 이벤트 ID를 메모리 LRU에 보관해 같은 인스턴스로 재전달된 이벤트는 DB 조회 없이 버리고, 그 외에는 {@code p_processed_event}의
+ * 기본 키로 인스턴스 간 중복을 막는다. 처리 완료 기록은 {@link #processAndComplete}로 알림/아웃박스 저장과 같은 트랜잭션에서 커밋하고, 처리 중
+ * 실패하면 {@link #release}로 선점을 해제해 재전달 시 다시 처리되도록 한다.
+ */
+@Slf4j
+@Service
+public class EventDeduplicationService {
+
+  /** 이벤트 선점 결과 */
+  public enum Acquisition {
+    /** 선점 성공 (처리해야 함) */
+    ACQUIRED,
+    /** 이미 처리 완료된 중복 이벤트 (버려도 됨) */
+    COMPLETED,
+    /** 다른 소비자가 선점 유효 시간 안에서 처리 중 (완료 여부를 알 수 없으므로 재전달 필요) */
+    IN_PROGRESS
+  }
+
+  private final ProcessedEventRepository processedEventRepository;
+  private final Cache<String, Boolean> completedEvents;
+  private final Counter memoryDuplicates;
+  private final Counter databaseDuplicates;
+  private final Counter inProgressRedeliveries;
+  private final Duration lease;
+  private final Duration retention;
+
+  public EventDeduplicationService(
+      ProcessedEventRepository processedEventRepository,
+      MeterRegistry meterRegistry,
+      @Value("${notification.dedup.cache.max-size:100000}") long cacheMaxSize,
+      @Value("${notification.dedup.lease:5m}") Duration lease,
+      @Value("${notification.dedup.retention:7d}") Duration retention) {
+    this.processedEventRepository = processedEventRepository;
+    this.completedEvents = Caffeine.newBuilder().maximumSize(cacheMaxSize).build();
+    this.memoryDuplicates = duplicateCounter(meterRegistry, "memory");
+    this.databaseDuplicates = duplicateCounter(meterRegistry, "database");
+    this.inProgressRedeliveries =
+        Counter.builder("notification.event.in_progress")
+            .description("다른 소비자가 처리 중이라 재전달을 요청한 이벤트 수")
+            .register(meterRegistry);
+    this.lease = lease;
+    this.retention = retention;
+  }
+
+  /**
+   * 이벤트 처리 선점.
+   *
+   * @param eventId 통합 이벤트 ID
+   * @param consumer 소비자 이름 (기록용)
+   * @return 처리해야 하면 {@link Acquisition#ACQUIRED}, 이미 처리한 중복 이벤트면 {@link Acquisition#COMPLETED}, 다른
+   *     소비자가 처리 중이면 {@link Acquisition#IN_PROGRESS}
+   */
+  @Transactional
+  public Acquisition tryAcquire(String eventId, String consumer) {
+    if (completedEvents.getIfPresent(eventId) != null) {
+      memoryDuplicates.increment();
+      log.info("중복 이벤트 무시 (메모리): eventId={}, consumer={}", eventId, consumer);
+      return Acquisition.COMPLETED;
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    if (processedEventRepository.acquire(eventId, consumer, now, now.minus(lease)) == 1) {
+      return Acquisition.ACQUIRED;
+    }
+
+    // 선점 실패: 완료된 기록이면 중복, 아니면 처리 중인 소비자가 죽었을 수 있으므로 ack하지 않고 재전달 받아야 함
+    if (processedEventRepository.findCompletedByEventId(eventId).orElse(false)) {
+      databaseDuplicates.increment();
+      completedEvents.put(eventId, Boolean.TRUE);
+      log.info("중복 이벤트 무시 (DB): eventId={}, consumer={}", eventId, consumer);
+      return Acquisition.COMPLETED;
+    }
+
+    inProgressRedeliveries.increment();
+    log.info("다른 소비자가 처리 중인 이벤트: eventId={}, consumer={}", eventId, consumer);
+    return Acquisition.IN_PROGRESS;
+  }
+
+  /**
+   * 선점한 이벤트를 처리하고 같은 트랜잭션에서 완료 표시.
+   *
+   * <p>처리 중 저장하는 알림/아웃박스와 완료 기록이 함께 커밋되므로, 커밋 직후 장애가 나도 완료 기록이 빠진 채 재처리되지 않는다.
+   */
+  @Transactional
+  public void processAndComplete(String eventId, Runnable processing) {
+    processing.run();
+    processedEventRepository.markCompleted(eventId, LocalDateTime.now());
+    afterCommit(() -> completedEvents.put(eventId, Boolean.TRUE));
+  }
+
+  /** 처리 실패 시 선점 해제 (재전달 시 다시 처리) */
+  @Transactional
+  public void release(String eventId) {
+    processedEventRepository.release(eventId);
+  }
+
+  /** 보관 기간이 지난 처리 기록 삭제 */
+  @Transactional
+  @Scheduled(cron = "${notification.dedup.purge-cron:0 0 4 * * *}")
+  public void purgeExpired() {
+    int deleted =
+        processedEventRepository.deleteAllByAcquiredAtBefore(LocalDateTime.now().minus(retention));
+    log.info("처리 이벤트 기록 정리: deleted={}", deleted);
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+
+  private static Counter duplicateCounter(MeterRegistry meterRegistry, String source) {
+    return Counter.builder("notification.event.duplicate")
+        .description("중복으로 판정되어 버린 이벤트 수")
+        .tag("source", source)
+        .register(meterRegistry);
+  }
+}
@@ -2,15 +2,16 @@ package com.tickatch.notificationservice.notification.application;
 
 import com.tickatch.notificationservice.notification.domain.Notification;
 import com.tickatch.notificationservice.notification.domain.NotificationChannel;
+import java.util.concurrent.CompletableFuture;
 
 public interface NotificationPublisher {
 
-  /** 알림 발송 메시지 발행 */
-  void publish(Notification notification);
+  /** 알림 발송 메시지 발행 (브로커가 수신을 확인하면 완료) */
+  CompletableFuture<Void> publish(Notification notification);
 
   /** 알림 재발송 메시지 발행 */
-  default void publishRetry(Notification notification) {
-    publish(notification);
+  default CompletableFuture<Void> publishRetry(Notification notification) {
+    return publish(notification);
   }
 
   /** 지원하는 채널인지 확인 */
@@ -1,23 +1,42 @@
 package com.tickatch.notificationservice.notification.application;
 
 import com.tickatch.notificationservice.notification.domain.NotificationChannel;
+import java.util.EnumMap;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class NotificationPublisherRouter {
+public final class NotificationPublisherRouter {
 
-  private final List<NotificationPublisher> publishers;
+  private final Map<NotificationChannel, NotificationPublisher> publishers;
+
+  /** 채널별 Publisher 등록 (채널마다 정확히 하나가 없으면 기동 실패) */
+  public NotificationPublisherRouter(List<NotificationPublisher> publishers) {
+    this.publishers = new EnumMap<>(NotificationChannel.class);
+
+    for (NotificationChannel channel : NotificationChannel.values()) {
+      List<NotificationPublisher> supporting =
+          publishers.stream().filter(publisher -> publisher.supports(channel)).toList();
+
+      if (supporting.size() != 1) {
+        throw new IllegalStateException(
+            "채널별 Publisher는 정확히 하나여야 합니다: channel=" + channel + ", publishers=" + supporting);
+      }
+      this.publishers.put(channel, supporting.getFirst());
+    }
+
+    log.info("채널별 Publisher 등록 완료: {}", this.publishers);
+  }
 
   /** 채널에 맞는 Publisher 반환 */
   public NotificationPublisher getPublisher(NotificationChannel channel) {
-    return publishers.stream()
-        .filter(publisher -> publisher.supports(channel))
-        .findFirst()
-        .orElseThrow(() -> new IllegalStateException("지원하지 않는 채널입니다: " + channel));
+    NotificationPublisher publisher = publishers.get(channel);
+    if (publisher == null) {
+      throw new IllegalStateException("지원하지 않는 채널입니다: " + channel);
+    }
+    return publisher;
   }
 }
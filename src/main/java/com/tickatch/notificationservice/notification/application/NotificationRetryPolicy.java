@@ -0,0 +1,67 @@
+package com.tickatch.notificationservice.notification.application;
+
+import com.tickatch.notificationservice.notification.domain.AppliedSendResult;
+import com.tickatch.notificationservice.notification.domain.NotificationChannel;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 재발송 정책.
+ *
+ * <p>채널별 최대 재발송 횟수와 지수 백오프(기본 지연 × 2^(재발송 횟수 - 1), 최대 지연 제한)를 적용한다. 같은 시점에 실패한 알림들이 한꺼번에 재발송되지 않도록
+ * 지연의 절반 범위에서 무작위 지터를 더한다.
+ */
+@Component
+public class NotificationRetryPolicy {
+
+  private final Map<NotificationChannel, Integer> maxRetryCounts =
+      new EnumMap<>(NotificationChannel.class);
+  private final Duration baseDelay;
+  private final Duration maxDelay;
+
+  public NotificationRetryPolicy(
+      @Value("${notification.retry.max-attempts.email:3}") int emailMaxRetryCount,
+      @Value("${notification.retry.max-attempts.sms:3}") int smsMaxRetryCount,
+      @Value("${notification.retry.max-attempts.mms:3}") int mmsMaxRetryCount,
+      @Value("${notification.retry.max-attempts.slack:3}") int slackMaxRetryCount,
+      @Value("${notification.retry.base-delay:30s}") Duration baseDelay,
+      @Value("${notification.retry.max-delay:10m}") Duration maxDelay) {
+    maxRetryCounts.put(NotificationChannel.EMAIL, emailMaxRetryCount);
+    maxRetryCounts.put(NotificationChannel.SMS, smsMaxRetryCount);
+    maxRetryCounts.put(NotificationChannel.MMS, mmsMaxRetryCount);
+    maxRetryCounts.put(NotificationChannel.SLACK, slackMaxRetryCount);
+    this.baseDelay = baseDelay;
+    this.maxDelay = maxDelay;
+  }
+
+  /** 채널별 최대 재발송 횟수 */
+  public int maxRetryCount(NotificationChannel channel) {
+    return maxRetryCounts.get(channel);
+  }
+
+  public boolean canRetry(AppliedSendResult result) {
+    return result.canRetry(maxRetryCount(result.channel()));
+  }
+
+  /** 다음 재발송 시각 (retryCount는 이번 실패까지 반영된 재발송 횟수) */
+  public LocalDateTime nextAttemptAt(int retryCount) {
+    return LocalDateTime.now().plus(delay(retryCount));
+  }
+
+  /** 지터를 포함한 재발송 지연 (지연/2 ~ 지연) */
+  Duration delay(int retryCount) {
+    int exponent = Math.min(Math.max(retryCount - 1, 0), 30);
+    long delayMillis = Math.min(baseDelay.toMillis() << exponent, maxDelay.toMillis());
+    if (delayMillis <= 1) {
+      return Duration.ofMillis(delayMillis);
+    }
+
+    long half = delayMillis / 2;
+    return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(delayMillis - half + 1));
+  }
+}
@@ -1,18 +1,40 @@
 package com.tickatch.notificationservice.notification.application;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import com.tickatch.notificationservice.global.infrastructure.NotificationMetrics;
+import com.tickatch.notificationservice.global.infrastructure.NotificationMetrics.Stage;
+import com.tickatch.notificationservice.global.infrastructure.SuccessLogSamplingFilter;
+import com.tickatch.notificationservice.notification.application.dto.NotificationCursor;
 import com.tickatch.notificationservice.notification.application.dto.NotificationRequest;
 import com.tickatch.notificationservice.notification.application.dto.NotificationResponse;
+import com.tickatch.notificationservice.notification.application.dto.NotificationSliceResponse;
+import com.tickatch.notificationservice.notification.domain.AppliedSendResult;
 import com.tickatch.notificationservice.notification.domain.Notification;
 import com.tickatch.notificationservice.notification.domain.NotificationChannel;
+import com.tickatch.notificationservice.notification.domain.NotificationOutbox;
+import com.tickatch.notificationservice.notification.domain.NotificationOutboxRepository;
 import com.tickatch.notificationservice.notification.domain.NotificationRepository;
+import com.tickatch.notificationservice.notification.domain.NotificationSendResult;
+import com.tickatch.notificationservice.notification.domain.NotificationStatus;
+import com.tickatch.notificationservice.notification.domain.NotificationSummary;
 import com.tickatch.notificationservice.template.application.TemplateService;
 import com.tickatch.notificationservice.template.domain.TemplateType;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
@@ -25,62 +47,148 @@ public class NotificationService {
 
   private final NotificationRepository notificationRepository;
   private final TemplateService templateService;
-  private final NotificationPublisherRouter notificationPublisherRouter;
+  private final NotificationOutboxRepository notificationOutboxRepository;
+  private final NotificationRetryPolicy notificationRetryPolicy;
+  private final NotificationMetrics notificationMetrics;
+
+  private static final int MAX_SLICE_SIZE = 100;
+  private static final String TAG_MODE = "mode";
+  private static final String RESULT_IGNORED = "IGNORED";
 
   /** 알림 생성 및 발송 요청 */
   @Transactional
   public void sendNotification(@Valid NotificationRequest request) {
+    log.debug(
+        "알림 발송 요청: {}, {}, {}",
+        kv("userId", request.userId()),
+        kv("eventType", request.eventType()),
+        kv("channel", request.channel()));
+
+    // 1. 템플릿 렌더링 및 알림 엔티티 생성 (발송 처리 상태)
+    Notification notification = createNotification(request);
+
+    Timer.Sample insertSample = notificationMetrics.start();
+    Notification saved = notificationRepository.save(notification);
+    notificationMetrics.stopAfterCompletion(
+        insertSample, Stage.DB_INSERT, NotificationMetrics.TAG_CHANNEL, request.channel().name());
     log.info(
-        "알림 발송 요청: userId={}, eventType={}, channel={}",
-        request.userId(),
-        request.eventType(),
-        request.channel());
+        SuccessLogSamplingFilter.SUCCESS,
+        "알림 생성 완료: {}, {}",
+        kv("notificationId", saved.getId()),
+        kv("channel", request.channel()));
 
-    // 1. 템플릿 렌더링
-    String subject = renderSubject(request);
-    String content = renderContent(request);
+    // 2. 발행 아웃박스 기록 (커밋 이후 릴레이가 발송 서비스로 발행)
+    publishNotification(saved);
+  }
 
-    // 2. 알림 엔티티 생성
-    Notification notification =
-        Notification.create(
-            request.userId(),
-            request.eventType(),
-            request.channel(),
-            request.templateCode(),
-            subject,
-            content,
-            request.recipient(),
-            request.option());
+  /**
+   * 알림 일괄 생성 및 발송 요청.
+   *
+   * <p>시퀀스 기반 ID와 JDBC 배치 설정으로 알림과 아웃박스 INSERT가 배치 단위로 실행된다. 다매 예매, 대량 발송 등에 사용한다.
+   */
+  @Transactional
+  public void sendNotifications(List<@Valid NotificationRequest> requests) {
+    log.info("알림 일괄 발송 요청: size={}", requests.size());
 
-    Notification saved = notificationRepository.save(notification);
-    log.info("알림 생성 완료: notificationId={}", saved.getId());
+    List<Notification> notifications = requests.stream().map(this::createNotification).toList();
 
-    // 3. 발송 처리 상태로 변경
-    saved.markAsProcessing();
+    Timer.Sample insertSample = notificationMetrics.start();
+    List<Notification> saved = notificationRepository.saveAll(notifications);
+    notificationMetrics.stopAfterCompletion(
+        insertSample, Stage.DB_INSERT, NotificationMetrics.TAG_CHANNEL, channelOf(requests));
+    log.info("알림 일괄 생성 완료: size={}", saved.size());
 
-    // 4. 발송 서비스로 메시지 발행
-    publishNotification(saved);
+    notificationOutboxRepository.saveAll(saved.stream().map(NotificationOutbox::publish).toList());
   }
 
-  /** 발송 결과 업데이트 */
+  /**
+   * 발송 결과 업데이트.
+   *
+   * <p>엔티티를 조회하지 않고 발송 처리 중인 알림에만 조건부 UPDATE로 반영한다. 순서가 뒤바뀐 결과나 중복 결과는 반영되지 않고 무시된다.
+   */
   @Transactional
   public void updateSendResult(Long notificationId, boolean success, String errorMessage) {
-    Notification notification = getNotification(notificationId);
+    Timer.Sample sample = notificationMetrics.start();
+    notificationMetrics.stopAfterCompletion(sample, Stage.RESULT_UPDATE, TAG_MODE, "single");
 
     if (success) {
-      notification.markAsSent();
-      log.info("알림 발송 성공: notificationId={}", notificationId);
-    } else {
-      notification.markAsFailed(errorMessage);
-      log.warn(
-          "알림 발송 실패: notificationId={}, retryCount={}",
-          notificationId,
-          notification.getRetryCount());
-
-      if (notification.canRetry()) {
-        log.info("알림 재발송 요청: notificationId={}", notificationId);
-        retryNotification(notification);
+      if (notificationRepository.markAsSent(notificationId, LocalDateTime.now()) == 0) {
+        notificationMetrics.countAppliedResults(RESULT_IGNORED, 1);
+        log.warn("발송 결과 무시 (알림 없음 또는 발송 처리 중 아님): notificationId={}", notificationId);
+        return;
       }
+      notificationMetrics.countAppliedResults(NotificationStatus.SENT.name(), 1);
+      log.info(
+          SuccessLogSamplingFilter.SUCCESS, "알림 발송 성공: {}", kv("notificationId", notificationId));
+      return;
+    }
+
+    List<AppliedSendResult> applied =
+        notificationRepository.applySendResults(
+            List.of(new NotificationSendResult(notificationId, false, errorMessage)));
+    if (applied.isEmpty()) {
+      notificationMetrics.countAppliedResults(RESULT_IGNORED, 1);
+      log.warn("발송 결과 무시 (알림 없음 또는 발송 처리 중 아님): notificationId={}", notificationId);
+      return;
+    }
+
+    AppliedSendResult result = applied.getFirst();
+    notificationMetrics.countAppliedResults(NotificationStatus.FAILED.name(), 1);
+    log.warn("알림 발송 실패: notificationId={}, retryCount={}", notificationId, result.retryCount());
+
+    if (notificationRetryPolicy.canRetry(result)) {
+      log.info("알림 재발송 예약: notificationId={}", notificationId);
+      notificationOutboxRepository.save(toRetryOutbox(result));
+    }
+  }
+
+  /**
+   * 발송 결과 일괄 반영.
+   *
+   * <p>결과 묶음을 단일 UPDATE 문으로 반영하고, 반영 결과로 돌려받은 재발송 횟수로 재발송을 예약한다. 예외가 발생하면 묶음 전체가 롤백된다.
+   */
+  @Transactional
+  public void updateSendResults(List<NotificationSendResult> results) {
+    Timer.Sample sample = notificationMetrics.start();
+    notificationMetrics.stopAfterCompletion(sample, Stage.RESULT_UPDATE, TAG_MODE, "batch");
+
+    // 같은 알림의 결과가 여러 건이면 마지막 결과만 반영
+    Map<Long, NotificationSendResult> latest = new LinkedHashMap<>();
+    for (NotificationSendResult result : results) {
+      latest.remove(result.notificationId());
+      latest.put(result.notificationId(), result);
+    }
+
+    List<AppliedSendResult> applied =
+        notificationRepository.applySendResults(List.copyOf(latest.values()));
+
+    int sent =
+        (int) applied.stream().filter(result -> result.status() == NotificationStatus.SENT).count();
+    notificationMetrics.countAppliedResults(NotificationStatus.SENT.name(), sent);
+    notificationMetrics.countAppliedResults(
+        NotificationStatus.FAILED.name(), applied.size() - sent);
+    notificationMetrics.countAppliedResults(RESULT_IGNORED, latest.size() - applied.size());
+
+    if (applied.size() < latest.size()) {
+      Set<Long> missing = new HashSet<>(latest.keySet());
+      applied.forEach(result -> missing.remove(result.notificationId()));
+      log.warn("발송 결과 무시 (알림 없음 또는 발송 처리 중 아님): notificationIds={}", missing);
+    }
+
+    List<NotificationOutbox> retries =
+        applied.stream()
+            .filter(notificationRetryPolicy::canRetry)
+            .map(this::toRetryOutbox)
+            .toList();
+
+    log.info(
+        "알림 발송 결과 일괄 반영: received={}, applied={}, retry={}",
+        results.size(),
+        applied.size(),
+        retries.size());
+
+    if (!retries.isEmpty()) {
+      notificationOutboxRepository.saveAll(retries);
     }
   }
 
@@ -100,6 +208,33 @@ public class NotificationService {
         .map(NotificationResponse::from);
   }
 
+  /** 사용자의 알림 목록 커서 조회 (cursor가 없으면 최신 알림부터) */
+  @Transactional(readOnly = true)
+  public NotificationSliceResponse getNotifications(UUID userId, String cursor, int size) {
+    Pageable pageable = toSlicePageable(size);
+    Slice<NotificationSummary> slice =
+        cursor == null
+            ? notificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, pageable)
+            : findByUserIdBefore(userId, NotificationCursor.decode(cursor), pageable);
+
+    return NotificationSliceResponse.from(slice.map(NotificationResponse::from));
+  }
+
+  /** 사용자의 채널별 알림 커서 조회 (cursor가 없으면 최신 알림부터) */
+  @Transactional(readOnly = true)
+  public NotificationSliceResponse getNotificationsByChannel(
+      UUID userId, NotificationChannel channel, String cursor, int size) {
+    Pageable pageable = toSlicePageable(size);
+    Slice<NotificationSummary> slice =
+        cursor == null
+            ? notificationRepository.findByUserIdAndChannelOrderByCreatedAtDescIdDesc(
+                userId, channel, pageable)
+            : findByUserIdAndChannelBefore(
+                userId, channel, NotificationCursor.decode(cursor), pageable);
+
+    return NotificationSliceResponse.from(slice.map(NotificationResponse::from));
+  }
+
   /** 알림 상세 조회 */
   @Transactional(readOnly = true)
   public Notification getNotification(Long notificationId) {
@@ -110,6 +245,49 @@ public class NotificationService {
 
   // Private helper methods
 
+  private Pageable toSlicePageable(int size) {
+    return PageRequest.ofSize(Math.clamp(size, 1, MAX_SLICE_SIZE));
+  }
+
+  private Slice<NotificationSummary> findByUserIdBefore(
+      UUID userId, NotificationCursor cursor, Pageable pageable) {
+    return notificationRepository.findByUserIdBefore(
+        userId, cursor.createdAt(), cursor.id(), pageable);
+  }
+
+  private Slice<NotificationSummary> findByUserIdAndChannelBefore(
+      UUID userId, NotificationChannel channel, NotificationCursor cursor, Pageable pageable) {
+    return notificationRepository.findByUserIdAndChannelBefore(
+        userId, channel, cursor.createdAt(), cursor.id(), pageable);
+  }
+
+  /** 일괄 요청의 채널 태그 값 (채널이 섞여 있으면 MIXED) */
+  private String channelOf(List<NotificationRequest> requests) {
+    return requests.stream().map(NotificationRequest::channel).distinct().count() == 1
+        ? requests.getFirst().channel().name()
+        : "MIXED";
+  }
+
+  private Notification createNotification(NotificationRequest request) {
+    String subject = renderSubject(request);
+    String content = renderContent(request);
+
+    Notification notification =
+        Notification.create(
+            request.userId(),
+            request.eventType(),
+            request.channel(),
+            request.templateCode(),
+            subject,
+            content,
+            request.recipient(),
+            request.option());
+
+    // 같은 트랜잭션에서 발행 아웃박스에 기록되므로 처음부터 발송 처리 상태로 저장 (INSERT 후 상태 UPDATE 방지)
+    notification.markAsProcessing();
+    return notification;
+  }
+
   private String renderSubject(NotificationRequest request) {
     if (request.channel() != NotificationChannel.EMAIL) {
       return null;
@@ -135,14 +313,12 @@ public class NotificationService {
   }
 
   private void publishNotification(Notification notification) {
-    NotificationPublisher publisher =
-        notificationPublisherRouter.getPublisher(notification.getChannel());
-    publisher.publish(notification);
+    notificationOutboxRepository.save(NotificationOutbox.publish(notification));
   }
 
-  private void retryNotification(Notification notification) {
-    NotificationPublisher publisher =
-        notificationPublisherRouter.getPublisher(notification.getChannel());
-    publisher.publishRetry(notification);
+  /** 재발송 횟수에 따른 백오프 시각 이후에 발행되도록 아웃박스 기록 */
+  private NotificationOutbox toRetryOutbox(AppliedSendResult result) {
+    return NotificationOutbox.retry(
+        result.notificationId(), notificationRetryPolicy.nextAttemptAt(result.retryCount()));
   }
 }
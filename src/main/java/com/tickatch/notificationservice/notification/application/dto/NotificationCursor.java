@@ -0,0 +1,46 @@
+package com.tickatch.notificationservice.notification.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 알림 목록 키셋 페이지네이션 커서.
+ *
+ * <p>마지막으로 조회한 알림의 (createdAt, id)를 가리키며, 다음 페이지는 이보다 오래된 알림부터 조회한다.
+ *
+ * @param createdAt 마지막 알림의 생성 일시
+ * @param id 마지막 알림의 ID (생성 일시가 같을 때의 순서 보장)
+ */
+public record NotificationCursor(LocalDateTime createdAt, Long id) {
+
+  private static final String DELIMITER = "|";
+
+  public static NotificationCursor from(NotificationResponse notification) {
+    return new NotificationCursor(notification.createdAt(), notification.id());
+  }
+
+  /** 클라이언트에 전달할 불투명 문자열로 인코딩 */
+  public String encode() {
+    String raw = createdAt + DELIMITER + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** 인코딩된 커서 문자열 해석 */
+  public static NotificationCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int delimiter = raw.lastIndexOf(DELIMITER);
+
+      return new NotificationCursor(
+          LocalDateTime.parse(raw.substring(0, delimiter)),
+          Long.parseLong(raw.substring(delimiter + 1)));
+
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+    }
+  }
+}
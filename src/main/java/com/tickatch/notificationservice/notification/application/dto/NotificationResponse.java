@@ -3,6 +3,7 @@ package com.tickatch.notificationservice.notification.application.dto;
 import com.tickatch.notificationservice.notification.domain.Notification;
 import com.tickatch.notificationservice.notification.domain.NotificationChannel;
 import com.tickatch.notificationservice.notification.domain.NotificationStatus;
+import com.tickatch.notificationservice.notification.domain.NotificationSummary;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.Builder;
@@ -39,4 +40,22 @@ public record NotificationResponse(
         .createdAt(notification.getCreatedAt())
         .build();
   }
+
+  public static NotificationResponse from(NotificationSummary summary) {
+    return NotificationResponse.builder()
+        .id(summary.id())
+        .userId(summary.userId())
+        .eventType(summary.eventType())
+        .channel(summary.channel())
+        .templateCode(summary.templateCode())
+        .subject(summary.subject())
+        .recipient(summary.recipient())
+        .status(summary.status())
+        .errorMessage(summary.errorMessage())
+        .requestedAt(summary.createdAt())
+        .sentAt(summary.sentAt())
+        .retryCount(summary.retryCount())
+        .createdAt(summary.createdAt())
+        .build();
+  }
 }
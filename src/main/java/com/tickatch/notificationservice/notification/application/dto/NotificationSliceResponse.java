@@ -0,0 +1,27 @@
+package com.tickatch.notificationservice.notification.application.dto;
+
+import java.util.List;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 커서 기반 알림 목록 응답 (전체 건수를 세지 않음).
+ *
+ * @param content 알림 목록 (최신순)
+ * @param hasNext 다음 페이지 존재 여부
+ * @param nextCursor 다음 페이지 조회용 커서 (다음 페이지가 없으면 null)
+ */
+public record NotificationSliceResponse(
+    List<NotificationResponse> content, boolean hasNext, String nextCursor) {
+
+  public NotificationSliceResponse {
+    content = List.copyOf(content);
+  }
+
+  public static NotificationSliceResponse from(Slice<NotificationResponse> slice) {
+    List<NotificationResponse> content = slice.getContent();
+    String nextCursor =
+        slice.hasNext() ? NotificationCursor.from(content.get(content.size() - 1)).encode() : null;
+
+    return new NotificationSliceResponse(content, slice.hasNext(), nextCursor);
+  }
+}
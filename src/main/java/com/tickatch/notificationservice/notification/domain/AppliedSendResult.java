@@ -0,0 +1,18 @@
+package com.tickatch.notificationservice.notification.domain;
+
+/**
+ * 일괄 반영 후의 알림 상태.
+ *
+ * @param notificationId 알림 ID
+ * @param channel 발송 채널
+ * @param status 반영 후 상태
+ * @param retryCount 반영 후 재발송 횟수
+ */
+public record AppliedSendResult(
+    Long notificationId, NotificationChannel channel, NotificationStatus status, int retryCount) {
+
+  /** 재발송 횟수가 남은 발송 실패 상태인지 확인 */
+  public boolean canRetry(int maxRetryCount) {
+    return retryCount < maxRetryCount && status == NotificationStatus.FAILED;
+  }
+}
@@ -0,0 +1,43 @@
+package com.tickatch.notificationservice.notification.domain;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 첨부파일 참조.
+ *
+ * <p>첨부파일 본문의 SHA-256 해시로 식별되며 {@code attachment:<hex>} 형태의 문자열로 알림에 저장된다.
+ *
+ * @param id 첨부파일 본문의 SHA-256 해시 (16진수 소문자 64자)
+ */
+public record AttachmentReference(String id) {
+
+  public static final String PREFIX = "attachment:";
+
+  /** 본문 안의 첨부파일 참조를 찾기 위한 패턴 (그룹 1 = 해시) */
+  public static final Pattern PATTERN = Pattern.compile(PREFIX + "([0-9a-f]{64})");
+
+  public AttachmentReference {
+    if (id == null || !PATTERN.matcher(PREFIX + id).matches()) {
+      throw new IllegalArgumentException("잘못된 첨부파일 식별자입니다: " + id);
+    }
+  }
+
+  /**
+   * 문자열이 첨부파일 참조이면 파싱합니다.
+   *
+   * @param value 알림 옵션 등 참조가 담길 수 있는 값
+   * @return 첨부파일 참조, 참조 형식이 아니면 빈 값
+   */
+  public static Optional<AttachmentReference> parse(String value) {
+    if (value == null || !PATTERN.matcher(value).matches()) {
+      return Optional.empty();
+    }
+    return Optional.of(new AttachmentReference(value.substring(PREFIX.length())));
+  }
+
+  @Override
+  public String toString() {
+    return PREFIX + id;
+  }
+}
@@ -1,6 +1,7 @@
 package com.tickatch.notificationservice.notification.domain;
 
 import com.tickatch.notificationservice.global.domain.AbstractTimeEntity;
+import com.tickatch.notificationservice.global.infrastructure.CompressedTextConverter;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -9,13 +10,29 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "p_notification")
+@Table(
+    name = "p_notification",
+    indexes = {
+      @Index(
+          name = "idx_notification_user_created",
+          columnList = "user_id, created_at DESC, id DESC"),
+      @Index(
+          name = "idx_notification_user_channel_created",
+          columnList = "user_id, channel, created_at DESC, id DESC")
+    })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification extends AbstractTimeEntity {
 
+  /** ID 시퀀스 할당 크기 (pooled-lo 최적화로 시퀀스 호출 1회당 이 수만큼 ID를 메모리에서 할당) */
+  public static final int ID_ALLOCATION_SIZE = 50;
+
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_id_generator")
+  @SequenceGenerator(
+      name = "notification_id_generator",
+      sequenceName = "p_notification_seq",
+      allocationSize = ID_ALLOCATION_SIZE)
   private Long id;
 
   @Column(nullable = false)
@@ -35,6 +52,7 @@ public class Notification extends AbstractTimeEntity {
   private String subject;
 
   @Column(columnDefinition = "TEXT")
+  @Convert(converter = CompressedTextConverter.class)
   private String content;
 
   @Column(columnDefinition = "TEXT")
@@ -78,22 +96,7 @@ public class Notification extends AbstractTimeEntity {
     return notification;
   }
 
-  public void markAsSent() {
-    this.status = NotificationStatus.SENT;
-    this.sentAt = LocalDateTime.now();
-  }
-
-  public void markAsFailed(String errorMessage) {
-    this.status = NotificationStatus.FAILED;
-    this.errorMessage = errorMessage;
-    this.retryCount++;
-  }
-
   public void markAsProcessing() {
     this.status = NotificationStatus.PROCESSING;
   }
-
-  public boolean canRetry() {
-    return this.retryCount < 3 && this.status == NotificationStatus.FAILED;
-  }
 }
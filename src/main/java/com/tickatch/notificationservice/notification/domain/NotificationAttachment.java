@@ -0,0 +1,55 @@
+package com.tickatch.notificationservice.notification.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 첨부파일 (QR 코드 이미지 등).
+ *
+ * <p>본문의 SHA-256 해시를 식별자로 사용하는 내용 주소 기반 저장소로, 같은 이미지는 한 번만 저장된다. 알림에는 {@link AttachmentReference}만
+ * 저장한다.
+ */
+@Entity
+@Table(name = "p_notification_attachment")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationAttachment {
+
+  /** 최대 첨부파일 크기 (MMS 이미지 제한 200KB에 여유를 둔 값) */
+  public static final int MAX_SIZE_BYTES = 1024 * 1024;
+
+  @Id
+  @Column(length = 64)
+  private String id; // SHA-256 (hex)
+
+  @Column(nullable = false, length = 100)
+  private String contentType;
+
+  @Column(nullable = false)
+  private Integer size;
+
+  @Column(nullable = false, length = MAX_SIZE_BYTES)
+  private byte[] data;
+
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  public AttachmentReference getReference() {
+    return new AttachmentReference(id);
+  }
+
+  public byte[] getData() {
+    return data.clone();
+  }
+
+  /** 본문을 대상 배열의 지정 위치에 복사 (메시지 본문 조립 시 중간 복사 방지) */
+  public void copyTo(byte[] target, int offset) {
+    System.arraycopy(data, 0, target, offset, data.length);
+  }
+}
@@ -0,0 +1,32 @@
+package com.tickatch.notificationservice.notification.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationAttachmentRepository
+    extends Repository<NotificationAttachment, String> {
+
+  Optional<NotificationAttachment> findById(String id);
+
+  /** 같은 해시의 첨부파일이 없을 때만 저장 (저장된 행 수 반환) */
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO {h-schema}p_notification_attachment
+              (id, content_type, size, data, created_at)
+          VALUES (:id, :contentType, :size, :data, :createdAt)
+          ON CONFLICT (id) DO NOTHING
+          """,
+      nativeQuery = true)
+  int insertIfAbsent(
+      @Param("id") String id,
+      @Param("contentType") String contentType,
+      @Param("size") int size,
+      @Param("data") byte[] data,
+      @Param("createdAt") LocalDateTime createdAt);
+}
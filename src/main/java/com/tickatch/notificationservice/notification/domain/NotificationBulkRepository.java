@@ -0,0 +1,18 @@
+package com.tickatch.notificationservice.notification.domain;
+
+import java.util.List;
+
+/** 알림 일괄 처리용 저장소 (구현은 infrastructure 계층) */
+public interface NotificationBulkRepository {
+
+  /**
+   * 발송 결과를 단일 UPDATE 문으로 일괄 반영합니다.
+   *
+   * <p>발송 처리 중(PROCESSING)인 알림에만 반영하므로 순서가 뒤바뀐 결과나 중복 결과는 무시됩니다. 영속성 컨텍스트를 거치지 않으므로 호출 전에 로드한 엔티티는
+   * 갱신되지 않습니다.
+   *
+   * @param results 발송 결과 (알림 ID 중복 없음)
+   * @return 실제로 반영된 알림의 반영 후 상태 (존재하지 않거나 발송 처리 중이 아닌 알림은 제외)
+   */
+  List<AppliedSendResult> applySendResults(List<NotificationSendResult> results);
+}
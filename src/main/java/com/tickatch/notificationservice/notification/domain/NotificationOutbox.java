@@ -0,0 +1,73 @@
+package com.tickatch.notificationservice.notification.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 발행 아웃박스.
+ *
+ * <p>알림과 같은 트랜잭션에서 저장되며, 릴레이가 커밋 이후 메시지 브로커로 발행한 뒤 삭제한다.
+ */
+@Entity
+@Table(
+    name = "p_notification_outbox",
+    indexes = @Index(name = "idx_notification_outbox_available_at", columnList = "available_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox {
+
+  @Id
+  @GeneratedValue(
+      strategy = GenerationType.SEQUENCE,
+      generator = "notification_outbox_id_generator")
+  @SequenceGenerator(
+      name = "notification_outbox_id_generator",
+      sequenceName = "p_notification_outbox_id_seq",
+      allocationSize = Notification.ID_ALLOCATION_SIZE)
+  private Long id;
+
+  @Column(nullable = false)
+  private Long notificationId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private NotificationOutboxType type;
+
+  @Column(nullable = false)
+  private LocalDateTime availableAt; // 발행 가능 시각 (재발송 백오프)
+
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  public static NotificationOutbox publish(Notification notification) {
+    return create(notification.getId(), NotificationOutboxType.PUBLISH, LocalDateTime.now());
+  }
+
+  public static NotificationOutbox retry(Long notificationId, LocalDateTime availableAt) {
+    return create(notificationId, NotificationOutboxType.RETRY, availableAt);
+  }
+
+  private static NotificationOutbox create(
+      Long notificationId, NotificationOutboxType type, LocalDateTime availableAt) {
+    NotificationOutbox outbox = new NotificationOutbox();
+
+    outbox.notificationId = notificationId;
+    outbox.type = type;
+    outbox.availableAt = availableAt;
+    outbox.createdAt = LocalDateTime.now();
+
+    return outbox;
+  }
+}
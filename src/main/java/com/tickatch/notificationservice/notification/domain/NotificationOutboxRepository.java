@@ -0,0 +1,34 @@
+package com.tickatch.notificationservice.notification.domain;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationOutboxRepository extends Repository<NotificationOutbox, Long> {
+
+  NotificationOutbox save(NotificationOutbox outbox);
+
+  List<NotificationOutbox> saveAll(Iterable<NotificationOutbox> outboxes);
+
+  /** 발행 시각이 된 항목을 오래된 순으로 잠금 조회 (다른 인스턴스가 잠근 행은 건너뜀) */
+  @Query(
+      value =
+          """
+          SELECT * FROM {h-schema}p_notification_outbox
+          WHERE available_at <= :now
+          ORDER BY available_at, id
+          LIMIT :limit
+          FOR UPDATE SKIP LOCKED
+          """,
+      nativeQuery = true)
+  List<NotificationOutbox> findNextBatchForUpdate(
+      @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  @Modifying
+  @Query("DELETE FROM NotificationOutbox o WHERE o.id IN :ids")
+  int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,6 @@
+package com.tickatch.notificationservice.notification.domain;
+
+public enum NotificationOutboxType {
+  PUBLISH, // 최초 발송
+  RETRY // 재발송
+}
@@ -1,19 +1,127 @@
 package com.tickatch.notificationservice.notification.domain;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
-public interface NotificationRepository extends Repository<Notification, Long> {
+public interface NotificationRepository
+    extends Repository<Notification, Long>, NotificationBulkRepository {
 
   Notification save(Notification notification);
 
+  List<Notification> saveAll(Iterable<Notification> notifications);
+
   Optional<Notification> findById(Long id);
 
-  Page<Notification> findAllByUserId(UUID userId, Pageable pageable);
+  List<Notification> findAllById(Iterable<Long> ids);
+
+  /** 상태 전이 조건절에 사용할 상태 리터럴 접두사 */
+  String STATUS = "com.tickatch.notificationservice.notification.domain.NotificationStatus.";
+
+  /**
+   * 발송 처리 중인 알림을 발송 완료로 변경 (엔티티 조회 없이 UPDATE 1회).
+   *
+   * @return 변경된 행 수 (알림이 없거나 이미 처리된 결과면 0)
+   */
+  @Modifying
+  @Query(
+      "UPDATE Notification n SET n.status = "
+          + STATUS
+          + "SENT, n.sentAt = :now, n.updatedAt = :now"
+          + " WHERE n.id = :id AND n.status = "
+          + STATUS
+          + "PROCESSING")
+  int markAsSent(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+  /**
+   * 재발송을 발행할 실패 알림을 발송 처리 중으로 변경.
+   *
+   * @return 변경된 행 수
+   */
+  @Modifying
+  @Query(
+      "UPDATE Notification n SET n.status = "
+          + STATUS
+          + "PROCESSING, n.updatedAt = :now"
+          + " WHERE n.id IN :ids AND n.status = "
+          + STATUS
+          + "FAILED")
+  int markAsProcessing(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+  /** 목록 조회용 프로젝션 (TEXT 컬럼 제외) */
+  String SELECT_SUMMARY =
+      """
+      SELECT new com.tickatch.notificationservice.notification.domain.NotificationSummary(
+          n.id, n.userId, n.eventType, n.channel, n.templateCode, n.subject, n.recipient,
+          n.status, n.errorMessage, n.sentAt, n.retryCount, n.createdAt)
+      FROM Notification n
+      """;
+
+  @Query(
+      value = SELECT_SUMMARY + "WHERE n.userId = :userId",
+      countQuery = "SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId")
+  Page<NotificationSummary> findAllByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+  @Query(
+      value = SELECT_SUMMARY + "WHERE n.userId = :userId AND n.channel = :channel",
+      countQuery =
+          "SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId AND n.channel = :channel")
+  Page<NotificationSummary> findAllByUserIdAndChannel(
+      @Param("userId") UUID userId,
+      @Param("channel") NotificationChannel channel,
+      Pageable pageable);
+
+  /** 사용자의 최신 알림부터 조회 (키셋 페이지네이션 첫 페이지) */
+  @Query(SELECT_SUMMARY + "WHERE n.userId = :userId ORDER BY n.createdAt DESC, n.id DESC")
+  Slice<NotificationSummary> findByUserIdOrderByCreatedAtDescIdDesc(
+      @Param("userId") UUID userId, Pageable pageable);
+
+  /** 커서 (createdAt, id)보다 오래된 사용자의 알림 조회 */
+  @Query(
+      SELECT_SUMMARY
+          + """
+          WHERE n.userId = :userId
+            AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+          ORDER BY n.createdAt DESC, n.id DESC
+          """)
+  Slice<NotificationSummary> findByUserIdBefore(
+      @Param("userId") UUID userId,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id,
+      Pageable pageable);
+
+  /** 사용자의 채널별 최신 알림부터 조회 (키셋 페이지네이션 첫 페이지) */
+  @Query(
+      SELECT_SUMMARY
+          + "WHERE n.userId = :userId AND n.channel = :channel"
+          + " ORDER BY n.createdAt DESC, n.id DESC")
+  Slice<NotificationSummary> findByUserIdAndChannelOrderByCreatedAtDescIdDesc(
+      @Param("userId") UUID userId,
+      @Param("channel") NotificationChannel channel,
+      Pageable pageable);
 
-  Page<Notification> findAllByUserIdAndChannel(
-      UUID userId, NotificationChannel channel, Pageable pageable);
+  /** 커서 (createdAt, id)보다 오래된 사용자의 채널별 알림 조회 */
+  @Query(
+      SELECT_SUMMARY
+          + """
+          WHERE n.userId = :userId
+            AND n.channel = :channel
+            AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+          ORDER BY n.createdAt DESC, n.id DESC
+          """)
+  Slice<NotificationSummary> findByUserIdAndChannelBefore(
+      @Param("userId") UUID userId,
+      @Param("channel") NotificationChannel channel,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id,
+      Pageable pageable);
 }
@@ -0,0 +1,10 @@
+package com.tickatch.notificationservice.notification.domain;
+
+/**
+ * 발송 서비스가 보고한 알림 발송 결과.
+ *
+ * @param notificationId 알림 ID
+ * @param success 발송 성공 여부
+ * @param errorMessage 실패 사유 (성공 시 null)
+ */
+public record NotificationSendResult(Long notificationId, boolean success, String errorMessage) {}
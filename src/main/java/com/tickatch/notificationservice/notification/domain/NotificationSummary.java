@@ -0,0 +1,23 @@
+package com.tickatch.notificationservice.notification.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 알림 목록 조회용 프로젝션.
+ *
+ * <p>본문(content)과 옵션(option) 등 TEXT 컬럼을 제외하고 목록 응답에 필요한 컬럼만 조회한다.
+ */
+public record NotificationSummary(
+    Long id,
+    UUID userId,
+    String eventType,
+    NotificationChannel channel,
+    String templateCode,
+    String subject,
+    String recipient,
+    NotificationStatus status,
+    String errorMessage,
+    LocalDateTime sentAt,
+    Integer retryCount,
+    LocalDateTime createdAt) {}
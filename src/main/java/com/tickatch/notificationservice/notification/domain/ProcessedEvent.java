@@ -0,0 +1,38 @@
+package com.tickatch.notificationservice.notification.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 처리한 통합 이벤트 기록 (중복 소비 방지).
+ *
+ * <p>이벤트 처리 시작 시 선점(acquired)하고 성공하면 완료(completed)로 표시한다. 완료되지 않은 채 선점 유효 시간이 지난 기록은 처리 중 장애로 보고 다른
+ * 소비자가 다시 선점할 수 있다.
+ */
+@Entity
+@Table(name = "p_processed_event")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProcessedEvent {
+
+  @Id
+  @Column(length = 100)
+  private String eventId;
+
+  @Column(nullable = false, length = 100)
+  private String consumer;
+
+  @Column(nullable = false)
+  private boolean completed;
+
+  @Column(nullable = false)
+  private LocalDateTime acquiredAt;
+
+  private LocalDateTime completedAt;
+}
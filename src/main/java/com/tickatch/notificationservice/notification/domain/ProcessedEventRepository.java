@@ -0,0 +1,46 @@
+package com.tickatch.notificationservice.notification.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+public interface ProcessedEventRepository extends Repository<ProcessedEvent, String> {
+
+  /** 이벤트 처리 선점 (신규이거나 미완료 상태로 선점 유효 시간이 지난 경우에만 1 반환) */
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO {h-schema}p_processed_event AS p
+              (event_id, consumer, completed, acquired_at)
+          VALUES (:eventId, :consumer, false, :now)
+          ON CONFLICT (event_id) DO UPDATE SET acquired_at = :now, consumer = :consumer
+          WHERE p.completed = false AND p.acquired_at < :staleBefore
+          """,
+      nativeQuery = true)
+  int acquire(
+      @Param("eventId") String eventId,
+      @Param("consumer") String consumer,
+      @Param("now") LocalDateTime now,
+      @Param("staleBefore") LocalDateTime staleBefore);
+
+  @Query("SELECT p.completed FROM ProcessedEvent p WHERE p.eventId = :eventId")
+  Optional<Boolean> findCompletedByEventId(@Param("eventId") String eventId);
+
+  @Modifying
+  @Query(
+      "UPDATE ProcessedEvent p SET p.completed = true, p.completedAt = :now"
+          + " WHERE p.eventId = :eventId")
+  int markCompleted(@Param("eventId") String eventId, @Param("now") LocalDateTime now);
+
+  @Modifying
+  @Query("DELETE FROM ProcessedEvent p WHERE p.eventId = :eventId AND p.completed = false")
+  int release(@Param("eventId") String eventId);
+
+  @Modifying
+  @Query("DELETE FROM ProcessedEvent p WHERE p.acquiredAt < :before")
+  int deleteAllByAcquiredAtBefore(@Param("before") LocalDateTime before);
+}
@@ -1,6 +1,8 @@
 package com.tickatch.notificationservice.notification.infrastructure.message;
 
+import com.tickatch.notificationservice.global.infrastructure.QRCodeImageFormat;
 import com.tickatch.notificationservice.global.infrastructure.QRCodeService;
+import com.tickatch.notificationservice.notification.application.AttachmentService;
 import com.tickatch.notificationservice.notification.application.NotificationService;
 import com.tickatch.notificationservice.notification.application.dto.NotificationRequest;
 import com.tickatch.notificationservice.notification.domain.NotificationChannel;
@@ -18,6 +20,7 @@ public class EmailTicketDeliveryStrategy implements TicketDeliveryStrategy {
 
   private final NotificationService notificationService;
   private final QRCodeService qrCodeService;
+  private final AttachmentService attachmentService;
 
   private static final String EVENT_TYPE = "TICKET_ISSUED";
   private static final String TEMPLATE_CODE = "TICKET_ISSUED";
@@ -26,7 +29,11 @@ public class EmailTicketDeliveryStrategy implements TicketDeliveryStrategy {
 
   @Override
   public void deliver(TicketIssuedEvent event, String verifyUrl) {
-    String qrCodeBase64 = qrCodeService.generateQRCode(verifyUrl);
+    // QR 코드 이미지는 첨부파일로 저장하고 알림에는 참조만 남김 (발행 시점에 data URI로 복원)
+    String qrCodeReference =
+        attachmentService
+            .store(qrCodeService.generateQRCodeBytes(verifyUrl), QRCodeImageFormat.PNG.mimeType())
+            .toString();
 
     NotificationRequest request =
         new NotificationRequest(
@@ -35,8 +42,8 @@ public class EmailTicketDeliveryStrategy implements TicketDeliveryStrategy {
             NotificationChannel.EMAIL,
             TEMPLATE_CODE,
             event.getRecipient(),
-            buildTemplateVariables(event, verifyUrl, qrCodeBase64),
-            qrCodeBase64);
+            buildTemplateVariables(event, verifyUrl, qrCodeReference),
+            qrCodeReference);
 
     notificationService.sendNotification(request);
   }
@@ -47,7 +54,7 @@ public class EmailTicketDeliveryStrategy implements TicketDeliveryStrategy {
   }
 
   private Map<String, Object> buildTemplateVariables(
-      TicketIssuedEvent event, String verifyUrl, String qrCodeBase64) {
+      TicketIssuedEvent event, String verifyUrl, String qrCodeReference) {
     return Map.of(
         "ticketId", event.getTicketId(),
         "reservationNumber", event.getReservationNumber(),
@@ -57,7 +64,7 @@ public class EmailTicketDeliveryStrategy implements TicketDeliveryStrategy {
         "artHallName", event.getArtHallName(),
         "stageName", event.getStageName(),
         "seatNumber", event.getSeatNumber(),
-        "qrCodeImage", qrCodeBase64, // Base64 인코딩된 QR 코드 이미지
+        "qrCodeImage", qrCodeReference, // QR 코드 첨부파일 참조
         "verifyUrl", verifyUrl);
   }
 }
@@ -1,6 +1,8 @@
 package com.tickatch.notificationservice.notification.infrastructure.message;
 
+import com.tickatch.notificationservice.global.infrastructure.QRCodeImageFormat;
 import com.tickatch.notificationservice.global.infrastructure.QRCodeService;
+import com.tickatch.notificationservice.notification.application.AttachmentService;
 import com.tickatch.notificationservice.notification.application.NotificationService;
 import com.tickatch.notificationservice.notification.application.dto.NotificationRequest;
 import com.tickatch.notificationservice.notification.domain.NotificationChannel;
@@ -18,6 +20,7 @@ public class MmsTicketDeliveryStrategy implements TicketDeliveryStrategy {
 
   private final NotificationService notificationService;
   private final QRCodeService qrCodeService;
+  private final AttachmentService attachmentService;
 
   private static final String EVENT_TYPE = "TICKET_ISSUED";
   private static final String TEMPLATE_CODE = "TICKET_ISSUED";
@@ -26,7 +29,13 @@ public class MmsTicketDeliveryStrategy implements TicketDeliveryStrategy {
 
   @Override
   public void deliver(TicketIssuedEvent event, String verifyUrl) {
-    String qrCodeBase64 = qrCodeService.generateQRCodeForMms(verifyUrl);
+    // QR 코드 이미지는 첨부파일로 저장하고 알림에는 참조만 남김 (발행 시점에 data URI로 복원)
+    String qrCodeReference =
+        attachmentService
+            .store(
+                qrCodeService.generateQRCodeBytesForMms(verifyUrl),
+                QRCodeImageFormat.JPEG.mimeType())
+            .toString();
 
     NotificationRequest request =
         new NotificationRequest(
@@ -36,7 +45,7 @@ public class MmsTicketDeliveryStrategy implements TicketDeliveryStrategy {
             TEMPLATE_CODE,
             event.getRecipient(),
             buildTemplateVariables(event),
-            qrCodeBase64);
+            qrCodeReference);
 
     notificationService.sendNotification(request);
   }
@@ -0,0 +1,187 @@
+package com.tickatch.notificationservice.notification.infrastructure.message;
+
+import com.tickatch.notificationservice.global.infrastructure.NotificationMetrics;
+import com.tickatch.notificationservice.global.infrastructure.NotificationMetrics.Stage;
+import com.tickatch.notificationservice.notification.application.NotificationPublisher;
+import com.tickatch.notificationservice.notification.application.NotificationPublisherRouter;
+import com.tickatch.notificationservice.notification.domain.Notification;
+import com.tickatch.notificationservice.notification.domain.NotificationOutbox;
+import com.tickatch.notificationservice.notification.domain.NotificationOutboxRepository;
+import com.tickatch.notificationservice.notification.domain.NotificationOutboxType;
+import com.tickatch.notificationservice.notification.domain.NotificationRepository;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 알림 발행 아웃박스 릴레이.
+ *
+ * <p>발행 가능 시각이 지난 아웃박스 항목을 배치 단위로 잠금 조회해 채널별 발행기로 confirm을 기다리지 않고 연달아 발행한 뒤, 브로커가 수신을 확인(ack)한 항목만
+ * 삭제한다. 실패하거나 제한 시간 안에 확인되지 않은 항목은 남아서 다음 주기에 다시 발행된다 (at-least-once). 재발송 항목은 백오프로 정해진 발행 가능 시각
+ * 이후에만 조회된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    name = "notification.outbox.relay.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class NotificationOutboxRelay {
+
+  private final NotificationOutboxRepository notificationOutboxRepository;
+  private final NotificationRepository notificationRepository;
+  private final NotificationPublisherRouter notificationPublisherRouter;
+  private final TransactionTemplate transactionTemplate;
+  private final NotificationMetrics notificationMetrics;
+  private final int batchSize;
+  private final Duration confirmTimeout;
+
+  public NotificationOutboxRelay(
+      NotificationOutboxRepository notificationOutboxRepository,
+      NotificationRepository notificationRepository,
+      NotificationPublisherRouter notificationPublisherRouter,
+      PlatformTransactionManager transactionManager,
+      NotificationMetrics notificationMetrics,
+      @Value("${notification.outbox.relay.batch-size:100}") int batchSize,
+      @Value("${notification.outbox.relay.confirm-timeout:5s}") Duration confirmTimeout) {
+    this.notificationOutboxRepository = notificationOutboxRepository;
+    this.notificationRepository = notificationRepository;
+    this.notificationPublisherRouter = notificationPublisherRouter;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.notificationMetrics = notificationMetrics;
+    this.batchSize = batchSize;
+    this.confirmTimeout = confirmTimeout;
+  }
+
+  /** 대기 항목이 없을 때까지 배치 단위로 발행 */
+  @Scheduled(fixedDelayString = "${notification.outbox.relay.interval:200ms}")
+  public void relay() {
+    try {
+      Integer relayed;
+      do {
+        relayed = transactionTemplate.execute(status -> relayBatch());
+      } while (relayed != null && relayed == batchSize);
+    } catch (Exception e) {
+      log.error("아웃박스 발행 실패 (다음 주기에 재시도)", e);
+    }
+  }
+
+  private int relayBatch() {
+    List<NotificationOutbox> entries =
+        notificationOutboxRepository.findNextBatchForUpdate(LocalDateTime.now(), batchSize);
+    if (entries.isEmpty()) {
+      return 0;
+    }
+
+    Map<Long, Notification> notifications =
+        notificationRepository
+            .findAllById(entries.stream().map(NotificationOutbox::getNotificationId).toList())
+            .stream()
+            .collect(Collectors.toMap(Notification::getId, Function.identity()));
+
+    // 재발송 결과가 상태 변경 커밋보다 먼저 도착해도 무시되지 않도록 발행 전에 발송 처리 중으로 변경
+    // (조건부 UPDATE로 행 잠금을 잡으므로 결과 반영은 이 트랜잭션 커밋 이후에 실행된다)
+    List<Long> retryIds =
+        entries.stream()
+            .filter(entry -> entry.getType() == NotificationOutboxType.RETRY)
+            .map(NotificationOutbox::getNotificationId)
+            .toList();
+    if (!retryIds.isEmpty()) {
+      notificationRepository.markAsProcessing(retryIds, LocalDateTime.now());
+    }
+
+    // 배치 전체를 파이프라인으로 발행한 뒤 confirm을 한 번에 대기
+    Map<Long, CompletableFuture<Void>> confirms = new LinkedHashMap<>();
+    entries.forEach(
+        entry ->
+            confirms.put(
+                entry.getId(), publish(entry, notifications.get(entry.getNotificationId()))));
+
+    awaitConfirms(confirms.values());
+
+    List<Long> confirmedIds =
+        confirms.entrySet().stream()
+            .filter(confirm -> isConfirmed(confirm.getValue()))
+            .map(Map.Entry::getKey)
+            .toList();
+
+    if (!confirmedIds.isEmpty()) {
+      notificationOutboxRepository.deleteAllByIdIn(confirmedIds);
+    }
+
+    if (confirmedIds.size() < entries.size()) {
+      log.warn(
+          "아웃박스 일부 발행 실패 (다음 주기에 재시도): size={}, confirmed={}", entries.size(), confirmedIds.size());
+    } else {
+      log.debug("아웃박스 발행 완료: size={}", entries.size());
+    }
+    return confirmedIds.size();
+  }
+
+  private CompletableFuture<Void> publish(NotificationOutbox entry, Notification notification) {
+    if (notification == null) {
+      log.warn(
+          "아웃박스 발행 대상 알림 없음: outboxId={}, notificationId={}",
+          entry.getId(),
+          entry.getNotificationId());
+      return CompletableFuture.completedFuture(null);
+    }
+
+    try {
+      NotificationPublisher publisher =
+          notificationPublisherRouter.getPublisher(notification.getChannel());
+      Timer.Sample sample = notificationMetrics.start();
+      CompletableFuture<Void> confirm =
+          entry.getType() == NotificationOutboxType.RETRY
+              ? publisher.publishRetry(notification)
+              : publisher.publish(notification);
+
+      return confirm.whenComplete(
+          (ignored, throwable) ->
+              notificationMetrics.stop(
+                  sample,
+                  Stage.PUBLISH,
+                  throwable == null,
+                  NotificationMetrics.TAG_CHANNEL,
+                  notification.getChannel().name(),
+                  "type",
+                  entry.getType().name()));
+    } catch (RuntimeException e) {
+      log.error("아웃박스 발행 실패: outboxId={}", entry.getId(), e);
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private void awaitConfirms(Collection<CompletableFuture<Void>> confirms) {
+    try {
+      CompletableFuture.allOf(confirms.toArray(CompletableFuture[]::new))
+          .get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException | TimeoutException e) {
+      // 개별 결과는 isConfirmed로 판단
+      log.debug("아웃박스 confirm 대기 중 실패 또는 시간 초과", e);
+    }
+  }
+
+  private boolean isConfirmed(CompletableFuture<Void> confirm) {
+    return confirm.isDone() && !confirm.isCompletedExceptionally();
+  }
+}
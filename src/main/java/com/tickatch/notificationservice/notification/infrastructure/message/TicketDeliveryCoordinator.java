@@ -1,20 +1,38 @@
 package com.tickatch.notificationservice.notification.infrastructure.message;
 
 import com.tickatch.notificationservice.notification.infrastructure.message.dto.TicketIssuedEvent;
+import java.util.EnumMap;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class TicketDeliveryCoordinator {
+public final class TicketDeliveryCoordinator {
 
-  private final List<TicketDeliveryStrategy> strategies;
+  private final Map<TicketDeliveryMethod, TicketDeliveryStrategy> strategies;
 
   private static final String BASE_VERIFY_URL = "https://www.tickatch.xyz/ticket/checked?ticketId=";
 
+  /** 수령 방법별 전략 등록 (수령 방법마다 정확히 하나가 없으면 기동 실패) */
+  public TicketDeliveryCoordinator(List<TicketDeliveryStrategy> strategies) {
+    this.strategies = new EnumMap<>(TicketDeliveryMethod.class);
+
+    for (TicketDeliveryMethod method : TicketDeliveryMethod.values()) {
+      List<TicketDeliveryStrategy> supporting =
+          strategies.stream().filter(strategy -> strategy.supports(method)).toList();
+
+      if (supporting.size() != 1) {
+        throw new IllegalStateException(
+            "수령 방법별 전략은 정확히 하나여야 합니다: method=" + method + ", strategies=" + supporting);
+      }
+      this.strategies.put(method, supporting.getFirst());
+    }
+
+    log.info("수령 방법별 전략 등록 완료: {}", this.strategies);
+  }
+
   /** 수령 방법에 맞는 전략을 찾아 티켓 전송 */
   public void deliverTicket(TicketIssuedEvent event) {
     TicketDeliveryStrategy strategy = findStrategy(event.getReceiveMethod());
@@ -25,10 +43,11 @@ public class TicketDeliveryCoordinator {
   }
 
   private TicketDeliveryStrategy findStrategy(TicketDeliveryMethod method) {
-    return strategies.stream()
-        .filter(strategy -> strategy.supports(method))
-        .findFirst()
-        .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 수령 방법입니다: " + method));
+    TicketDeliveryStrategy strategy = strategies.get(method);
+    if (strategy == null) {
+      throw new IllegalArgumentException("지원하지 않는 수령 방법입니다: " + method);
+    }
+    return strategy;
   }
 
   private String buildVerifyUrl(String ticketId) {
@@ -34,11 +34,16 @@ public class EmailSendRequestEvent extends DomainEvent {
   }
 
   public static EmailSendRequestEvent from(Notification notification, boolean html) {
+    return from(notification, notification.getContent(), html);
+  }
+
+  public static EmailSendRequestEvent from(
+      Notification notification, String content, boolean html) {
     return new EmailSendRequestEvent(
         notification.getId(),
         notification.getRecipient(),
         notification.getSubject(),
-        notification.getContent(),
+        content,
         html);
   }
 
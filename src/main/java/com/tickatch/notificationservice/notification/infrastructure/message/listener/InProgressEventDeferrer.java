@@ -0,0 +1,63 @@
+package com.tickatch.notificationservice.notification.infrastructure.message.listener;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import com.tickatch.notificationservice.global.infrastructure.RabbitMQConfig;
+import io.github.tickatch.common.event.IntegrationEvent;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 소비자가 처리 중인 이벤트의 지연 재전달.
+ *
+ * <p>즉시 재큐잉하면 선점 유효 시간 내내 처리 기록 조회를 반복하고, 재시도 횟수 제한이 있으면 DLQ로 빠져 처리 중이던 소비자가 죽은 경우 알림이 유실된다. 대신
+ * 이벤트를 소비자가 없는 대기 큐({@code <큐>.wait})에 넣어 TTL 만료 후 원래 큐로 돌아오게 하고, 브로커 확인을 받은 뒤에만 원본 메시지를 ack한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InProgressEventDeferrer {
+
+  private final RabbitTemplate rabbitTemplate;
+
+  @Value("${notification.dedup.redelivery-confirm-timeout:5s}")
+  private Duration confirmTimeout = Duration.ofSeconds(5);
+
+  /**
+   * 대기 큐로 이벤트 재발행 (확인 실패 시 예외를 던져 원본 메시지를 ack하지 않음).
+   *
+   * @param event 처리 중으로 판정된 이벤트
+   * @param queue 이벤트를 수신한 큐
+   */
+  public void defer(IntegrationEvent event, String queue) {
+    String waitQueue = queue + RabbitMQConfig.WAIT_QUEUE_SUFFIX;
+    CorrelationData correlation = new CorrelationData();
+
+    rabbitTemplate.convertAndSend("", waitQueue, event, correlation);
+
+    CorrelationData.Confirm confirm;
+    try {
+      confirm = correlation.getFuture().get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AmqpException("대기 큐 발행 확인 중 인터럽트", e);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new AmqpException("대기 큐 발행 확인 실패: queue=" + waitQueue, e);
+    }
+
+    if (!confirm.isAck() || correlation.getReturned() != null) {
+      throw new AmqpException("대기 큐 발행 실패: queue=" + waitQueue + ", reason=" + confirm.getReason());
+    }
+
+    log.info("처리 중인 이벤트 지연 재전달: {}, {}", kv("eventId", event.getEventId()), kv("queue", waitQueue));
+  }
+}
@@ -0,0 +1,46 @@
+package com.tickatch.notificationservice.notification.infrastructure.message.listener;
+
+import com.tickatch.notificationservice.global.infrastructure.RabbitMQConfig;
+import com.tickatch.notificationservice.notification.application.NotificationService;
+import com.tickatch.notificationservice.notification.domain.NotificationSendResult;
+import com.tickatch.notificationservice.notification.infrastructure.message.dto.NotificationResultEvent;
+import io.github.tickatch.common.event.IntegrationEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 발송 결과 일괄 수신 리스너.
+ *
+ * <p>{@code notification.result.batch.enabled=true}일 때 {@link NotificationResultListener} 대신 사용된다.
+ * 반영 중 예외가 발생하면 묶음 전체가 롤백되고 ack 되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.result.batch.enabled", havingValue = "true")
+public class NotificationResultBatchListener {
+
+  private final NotificationService notificationService;
+
+  @RabbitListener(
+      queues = RabbitMQConfig.QUEUE_SEND_RESULT,
+      containerFactory = RabbitMQConfig.RESULT_BATCH_CONTAINER_FACTORY)
+  public void handleNotificationResults(List<IntegrationEvent> events) {
+    log.debug("알림 발송 결과 일괄 수신: size={}", events.size());
+
+    List<NotificationSendResult> results = events.stream().map(this::toSendResult).toList();
+
+    notificationService.updateSendResults(results);
+  }
+
+  private NotificationSendResult toSendResult(IntegrationEvent event) {
+    NotificationResultEvent payload = event.getPayloadAs(NotificationResultEvent.class);
+
+    return new NotificationSendResult(
+        payload.getNotificationId(), payload.isSuccess(), payload.getErrorMessage());
+  }
+}
@@ -1,5 +1,7 @@
 package com.tickatch.notificationservice.notification.infrastructure.message.listener;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 import com.tickatch.notificationservice.global.infrastructure.RabbitMQConfig;
 import com.tickatch.notificationservice.notification.application.NotificationService;
 import com.tickatch.notificationservice.notification.infrastructure.message.dto.NotificationResultEvent;
@@ -8,26 +10,33 @@ import io.github.tickatch.common.event.IntegrationEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(
+    name = "notification.result.batch.enabled",
+    havingValue = "false",
+    matchIfMissing = true)
 public class NotificationResultListener {
 
   private final NotificationService notificationService;
 
-  @RabbitListener(queues = RabbitMQConfig.QUEUE_SEND_RESULT)
+  @RabbitListener(
+      queues = RabbitMQConfig.QUEUE_SEND_RESULT,
+      containerFactory = RabbitMQConfig.RESULT_CONTAINER_FACTORY)
   public void handleNotificationResult(IntegrationEvent event) {
     EventContext.run(event, this::updateSendResult);
   }
 
   private void updateSendResult(IntegrationEvent event) {
     NotificationResultEvent payload = event.getPayloadAs(NotificationResultEvent.class);
-    log.info(
-        "알림 발송 결과 수신: notificationId={}, success={}",
-        payload.getNotificationId(),
-        payload.isSuccess());
+    log.debug(
+        "알림 발송 결과 수신: {}, {}",
+        kv("notificationId", payload.getNotificationId()),
+        kv("success", payload.isSuccess()));
 
     notificationService.updateSendResult(
         payload.getNotificationId(), payload.isSuccess(), payload.getErrorMessage());
@@ -1,6 +1,11 @@
 package com.tickatch.notificationservice.notification.infrastructure.message.listener;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 import com.tickatch.notificationservice.global.infrastructure.RabbitMQConfig;
+import com.tickatch.notificationservice.global.infrastructure.SuccessLogSamplingFilter;
+import com.tickatch.notificationservice.notification.application.EventDeduplicationService;
+import com.tickatch.notificationservice.notification.application.EventDeduplicationService.Acquisition;
 import com.tickatch.notificationservice.notification.application.NotificationService;
 import com.tickatch.notificationservice.notification.application.dto.NotificationRequest;
 import com.tickatch.notificationservice.notification.domain.NotificationChannel;
@@ -20,32 +25,61 @@ import org.springframework.stereotype.Component;
 public class ReservationEventListener {
 
   private final NotificationService notificationService;
+  private final EventDeduplicationService eventDeduplicationService;
+  private final InProgressEventDeferrer inProgressEventDeferrer;
+
+  private static final String CONSUMER = "reservation-completed";
 
   private static final String EVENT_TYPE = "RESERVATION_COMPLETED";
   private static final String TEMPLATE_CODE = "RESERVATION_SUCCESS";
   private static final DateTimeFormatter DATE_FORMATTER =
       DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH:mm");
 
-  @RabbitListener(queues = RabbitMQConfig.QUEUE_RESERVATION_COMPLETED)
+  @RabbitListener(
+      queues = RabbitMQConfig.QUEUE_RESERVATION_COMPLETED,
+      containerFactory = RabbitMQConfig.RESERVATION_CONTAINER_FACTORY)
   public void handleReservationCompleted(IntegrationEvent event) {
     EventContext.run(event, this::sendReservationCompletedEmail);
   }
 
   private void sendReservationCompletedEmail(IntegrationEvent event) {
+    // 재전달/DLQ 재처리로 같은 이벤트가 다시 들어오면 렌더링, DB 작업 전에 버림
+    Acquisition acquisition = eventDeduplicationService.tryAcquire(event.getEventId(), CONSUMER);
+    if (acquisition == Acquisition.COMPLETED) {
+      return;
+    }
+    if (acquisition == Acquisition.IN_PROGRESS) {
+      // 처리 중이던 소비자가 죽었을 수 있으므로 버리지 않고 대기 큐를 거쳐 지연 재전달 (선점 만료 후 다시 선점)
+      inProgressEventDeferrer.defer(event, RabbitMQConfig.QUEUE_RESERVATION_COMPLETED);
+      return;
+    }
+
     ReservationCompletedEvent payload = event.getPayloadAs(ReservationCompletedEvent.class);
-    log.info(
-        "예매 완료 이벤트 수신: reservationId={}, userId={}",
-        payload.getReservationId(),
-        payload.getReserverId());
+    log.debug(
+        "예매 완료 이벤트 수신: {}, {}",
+        kv("reservationId", payload.getReservationId()),
+        kv("userId", payload.getReserverId()));
 
     try {
-      // 이메일 알림 발송
-      sendEmailNotification(payload);
+      // 이메일 알림 발송 (알림/아웃박스 저장과 처리 완료 기록을 한 트랜잭션으로 커밋)
+      eventDeduplicationService.processAndComplete(
+          event.getEventId(), () -> sendEmailNotification(payload));
 
-      log.info("예매 완료 알림 발송 완료: reservationId={}", payload.getReservationId());
+      log.info(
+          SuccessLogSamplingFilter.SUCCESS,
+          "예매 완료 알림 발송 완료: {}",
+          kv("reservationId", payload.getReservationId()));
 
     } catch (Exception e) {
-      log.error("예매 완료 알림 발송 실패: reservationId={}", payload.getReservationId(), e);
+      log.error(
+          "예매 완료 알림 발송 실패: {}, {}, {}",
+          kv("reservationId", payload.getReservationId()),
+          kv("userId", payload.getReserverId()),
+          kv("eventId", event.getEventId()),
+          e);
+      // 선점을 해제하고 예외를 다시 던져 재전달 받음
+      eventDeduplicationService.release(event.getEventId());
+      throw e;
     }
   }
 
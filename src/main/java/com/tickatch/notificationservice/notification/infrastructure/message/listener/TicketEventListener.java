@@ -1,6 +1,11 @@
 package com.tickatch.notificationservice.notification.infrastructure.message.listener;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 import com.tickatch.notificationservice.global.infrastructure.RabbitMQConfig;
+import com.tickatch.notificationservice.global.infrastructure.SuccessLogSamplingFilter;
+import com.tickatch.notificationservice.notification.application.EventDeduplicationService;
+import com.tickatch.notificationservice.notification.application.EventDeduplicationService.Acquisition;
 import com.tickatch.notificationservice.notification.infrastructure.message.TicketDeliveryCoordinator;
 import com.tickatch.notificationservice.notification.infrastructure.message.dto.TicketIssuedEvent;
 import io.github.tickatch.common.event.EventContext;
@@ -16,24 +21,53 @@ import org.springframework.stereotype.Component;
 public class TicketEventListener {
 
   private final TicketDeliveryCoordinator ticketDeliveryCoordinator;
+  private final EventDeduplicationService eventDeduplicationService;
+  private final InProgressEventDeferrer inProgressEventDeferrer;
+
+  private static final String CONSUMER = "ticket-issued";
 
-  @RabbitListener(queues = RabbitMQConfig.QUEUE_TICKET_ISSUED)
+  @RabbitListener(
+      queues = RabbitMQConfig.QUEUE_TICKET_ISSUED,
+      containerFactory = RabbitMQConfig.TICKET_CONTAINER_FACTORY)
   public void handleTicketIssued(IntegrationEvent event) {
     EventContext.run(event, this::sendTicketIssuedEmail);
   }
 
   private void sendTicketIssuedEmail(IntegrationEvent event) {
+    // 재전달/DLQ 재처리로 같은 이벤트가 다시 들어오면 렌더링, QR 생성, DB 작업 전에 버림
+    Acquisition acquisition = eventDeduplicationService.tryAcquire(event.getEventId(), CONSUMER);
+    if (acquisition == Acquisition.COMPLETED) {
+      return;
+    }
+    if (acquisition == Acquisition.IN_PROGRESS) {
+      // 처리 중이던 소비자가 죽었을 수 있으므로 버리지 않고 대기 큐를 거쳐 지연 재전달 (선점 만료 후 다시 선점)
+      inProgressEventDeferrer.defer(event, RabbitMQConfig.QUEUE_TICKET_ISSUED);
+      return;
+    }
+
     TicketIssuedEvent payload = event.getPayloadAs(TicketIssuedEvent.class);
-    log.info(
-        "티켓 발행 이벤트 수신: ticketId={}, userId={}", payload.getTicketId(), payload.getReserverId());
+    log.debug(
+        "티켓 발행 이벤트 수신: {}, {}",
+        kv("ticketId", payload.getTicketId()),
+        kv("userId", payload.getReserverId()));
 
     try {
-      // 이메일 알림 발송
-      ticketDeliveryCoordinator.deliverTicket(payload);
+      // 이메일 알림 발송 (알림/아웃박스 저장과 처리 완료 기록을 한 트랜잭션으로 커밋)
+      eventDeduplicationService.processAndComplete(
+          event.getEventId(), () -> ticketDeliveryCoordinator.deliverTicket(payload));
 
-      log.info("티켓 발행 알림 발송 완료: ticketId={}", payload.getTicketId());
+      log.info(
+          SuccessLogSamplingFilter.SUCCESS,
+          "티켓 발행 알림 발송 완료: {}",
+          kv("ticketId", payload.getTicketId()));
     } catch (Exception e) {
-      log.error("티켓 발행 알림 발송 실패: ticketId={}", payload.getTicketId(), e);
+      log.error(
+          "티켓 발행 알림 발송 실패: {}, {}, {}",
+          kv("ticketId", payload.getTicketId()),
+          kv("userId", payload.getReserverId()),
+          kv("eventId", event.getEventId()),
+          e);
+      eventDeduplicationService.release(event.getEventId());
       throw e;
     }
   }
@@ -0,0 +1,74 @@
+package com.tickatch.notificationservice.notification.infrastructure.message.publisher;
+
+import com.tickatch.notificationservice.notification.domain.NotificationAttachment;
+import io.github.tickatch.common.event.IntegrationEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 첨부파일을 바이너리로 싣는 발송 메시지 생성기.
+ *
+ * <p>메시지 본문은 이벤트 JSON 뒤에 첨부파일 원본 바이트를 순서대로 이어 붙인 형태이다. 이벤트 안에는 {@code attachment:<sha256>} 참조만 남고,
+ * 수신 측은 아래 헤더로 각 첨부파일 구간을 찾아 참조와 매칭한다.
+ *
+ * <ul>
+ *   <li>{@code x-payload-format}: {@value #PAYLOAD_FORMAT_BINARY} (이 헤더가 없으면 기존 JSON 메시지)
+ *   <li>{@code x-json-length}, {@code x-json-content-type}: 본문 앞쪽 이벤트 JSON 구간
+ *   <li>{@code x-attachment-count}: 첨부파일 수
+ *   <li>{@code x-attachment-<i>-id|content-type|offset|length}: i번째 첨부파일 정보
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class AttachmentMessageFactory {
+
+  public static final String HEADER_PAYLOAD_FORMAT = "x-payload-format";
+  public static final String PAYLOAD_FORMAT_BINARY = "json+binary";
+  public static final String HEADER_JSON_LENGTH = "x-json-length";
+  public static final String HEADER_JSON_CONTENT_TYPE = "x-json-content-type";
+  public static final String HEADER_ATTACHMENT_COUNT = "x-attachment-count";
+  public static final String HEADER_ATTACHMENT_PREFIX = "x-attachment-";
+
+  private final MessageConverter jsonMessageConverter;
+
+  /** 이벤트 JSON과 첨부파일 바이트를 하나의 메시지로 조립 */
+  public Message create(IntegrationEvent event, List<NotificationAttachment> attachments) {
+    MessageProperties properties = new MessageProperties();
+    byte[] json = jsonMessageConverter.toMessage(event, properties).getBody();
+
+    int bodyLength = json.length;
+    for (NotificationAttachment attachment : attachments) {
+      bodyLength += attachment.getSize();
+    }
+
+    byte[] body = new byte[bodyLength];
+    System.arraycopy(json, 0, body, 0, json.length);
+
+    properties.setHeader(HEADER_PAYLOAD_FORMAT, PAYLOAD_FORMAT_BINARY);
+    properties.setHeader(HEADER_JSON_LENGTH, json.length);
+    properties.setHeader(HEADER_JSON_CONTENT_TYPE, properties.getContentType());
+    properties.setHeader(HEADER_ATTACHMENT_COUNT, attachments.size());
+
+    int offset = json.length;
+    for (int i = 0; i < attachments.size(); i++) {
+      NotificationAttachment attachment = attachments.get(i);
+      attachment.copyTo(body, offset);
+
+      String prefix = HEADER_ATTACHMENT_PREFIX + i + "-";
+      properties.setHeader(prefix + "id", attachment.getReference().toString());
+      properties.setHeader(prefix + "content-type", attachment.getContentType());
+      properties.setHeader(prefix + "offset", offset);
+      properties.setHeader(prefix + "length", attachment.getSize());
+      offset += attachment.getSize();
+    }
+
+    properties.setContentType(MessageProperties.CONTENT_TYPE_BYTES);
+    properties.setContentLength(body.length);
+
+    return new Message(body, properties);
+  }
+}
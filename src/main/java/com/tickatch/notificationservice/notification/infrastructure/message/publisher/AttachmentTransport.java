@@ -0,0 +1,16 @@
+package com.tickatch.notificationservice.notification.infrastructure.message.publisher;
+
+/**
+ * 발송 서비스로 첨부파일을 전달하는 방식.
+ *
+ * <p>채널별로 {@code messaging.email.attachment-transport}, {@code messaging.mms.attachment-transport}로
+ * 지정한다. 메시지 단위 협상 없이 배포 설정으로 전환하므로, 해당 채널의 발송 서비스가 {@code x-payload-format} 헤더를 보고 두 형식을 모두 처리하도록
+ * 먼저 배포된 뒤에 {@link #BINARY}로 바꾼다. 되돌릴 때는 {@link #BASE64}로 바꾸면 이후 메시지부터 기존 JSON 형식으로 발행된다.
+ */
+public enum AttachmentTransport {
+  /** 이벤트 JSON 안에 Base64 data URI로 포함 (기본값) */
+  BASE64,
+
+  /** 이벤트 JSON 뒤에 원본 바이트를 이어 붙여 전달 ({@link AttachmentMessageFactory} 참고) */
+  BINARY
+}
@@ -1,15 +1,18 @@
 package com.tickatch.notificationservice.notification.infrastructure.message.publisher;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import com.tickatch.notificationservice.global.infrastructure.SuccessLogSamplingFilter;
+import com.tickatch.notificationservice.notification.application.AttachmentService;
 import com.tickatch.notificationservice.notification.application.NotificationPublisher;
 import com.tickatch.notificationservice.notification.domain.Notification;
+import com.tickatch.notificationservice.notification.domain.NotificationAttachment;
 import com.tickatch.notificationservice.notification.domain.NotificationChannel;
 import com.tickatch.notificationservice.notification.infrastructure.message.dto.EmailSendRequestEvent;
-import io.github.tickatch.common.event.DomainEvent;
-import io.github.tickatch.common.event.IntegrationEvent;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.AmqpException;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -18,49 +21,40 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class EmailNotificationPublisher implements NotificationPublisher {
 
-  @Value("${spring.application.name:notification-service}")
-  private String serviceName;
-
-  private final RabbitTemplate rabbitTemplate;
+  private final NotificationMessageSender messageSender;
+  private final AttachmentService attachmentService;
 
   @Value("${messaging.email.exchange:tickatch.email}")
   private String emailExchange;
 
+  @Value("${messaging.email.attachment-transport:BASE64}")
+  private AttachmentTransport attachmentTransport;
+
   @Override
-  public void publish(Notification notification) {
-    log.info("이메일 발송 이벤트 발행: notificationId={}", notification.getId());
+  public CompletableFuture<Void> publish(Notification notification) {
+    log.info(
+        SuccessLogSamplingFilter.SUCCESS,
+        "이메일 발송 이벤트 발행: {}",
+        kv("notificationId", notification.getId()));
+
+    if (attachmentTransport == AttachmentTransport.BINARY) {
+      // 본문에는 첨부파일 참조만 남기고 이미지는 메시지 뒤에 바이너리로 전달
+      EmailSendRequestEvent event = EmailSendRequestEvent.from(notification, true);
+      List<NotificationAttachment> attachments =
+          attachmentService.findReferenced(notification.getContent());
+
+      return messageSender.send(emailExchange, event, attachments);
+    }
+
+    String content = attachmentService.resolveReferences(notification.getContent());
 
-    EmailSendRequestEvent event = EmailSendRequestEvent.from(notification, true);
+    EmailSendRequestEvent event = EmailSendRequestEvent.from(notification, content, true);
 
-    publishEvent(event, notification.getEventType());
+    return messageSender.send(emailExchange, event);
   }
 
   @Override
   public boolean supports(NotificationChannel channel) {
     return channel == NotificationChannel.EMAIL;
   }
-
-  private void publishEvent(DomainEvent event, String eventDescription) {
-    log.info("{} 이메일 발송 이벤트 발행 시작: {}", eventDescription, event);
-
-    IntegrationEvent integrationEvent = IntegrationEvent.from(event, serviceName);
-
-    try {
-      rabbitTemplate.convertAndSend(emailExchange, event.getRoutingKey(), integrationEvent);
-      log.info(
-          "{} 이메일 발송 이벤트 발행 완료: exchange={}, routingKey={}",
-          eventDescription,
-          emailExchange,
-          event.getRoutingKey());
-    } catch (AmqpException e) {
-      log.error(
-          "{} 이메일 발송 이벤트 발행 실패: exchange={}, routingKey={}, event={}",
-          eventDescription,
-          emailExchange,
-          event.getRoutingKey(),
-          event,
-          e);
-      throw e;
-    }
-  }
 }
@@ -1,15 +1,18 @@
 package com.tickatch.notificationservice.notification.infrastructure.message.publisher;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import com.tickatch.notificationservice.global.infrastructure.SuccessLogSamplingFilter;
+import com.tickatch.notificationservice.notification.application.AttachmentService;
 import com.tickatch.notificationservice.notification.application.NotificationPublisher;
 import com.tickatch.notificationservice.notification.domain.Notification;
+import com.tickatch.notificationservice.notification.domain.NotificationAttachment;
 import com.tickatch.notificationservice.notification.domain.NotificationChannel;
 import com.tickatch.notificationservice.notification.infrastructure.message.dto.MmsSendRequestEvent;
-import io.github.tickatch.common.event.DomainEvent;
-import io.github.tickatch.common.event.IntegrationEvent;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.AmqpException;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -18,50 +21,40 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class MmsNotificationPublisher implements NotificationPublisher {
 
-  @Value("${spring.application.name:notification-service}")
-  private String serviceName;
-
-  private final RabbitTemplate rabbitTemplate;
+  private final NotificationMessageSender messageSender;
+  private final AttachmentService attachmentService;
 
   @Value("${messaging.mms.exchange:tickatch.mms}")
   private String mmsExchange;
 
+  @Value("${messaging.mms.attachment-transport:BASE64}")
+  private AttachmentTransport attachmentTransport;
+
   @Override
-  public void publish(Notification notification) {
-    log.info("MMS 발송 메시지 발행: notificationId={}", notification.getId());
-    String imageBase64 = notification.getOption();
+  public CompletableFuture<Void> publish(Notification notification) {
+    log.info(
+        SuccessLogSamplingFilter.SUCCESS,
+        "MMS 발송 메시지 발행: {}",
+        kv("notificationId", notification.getId()));
+
+    if (attachmentTransport == AttachmentTransport.BINARY) {
+      // imageBase64 필드에는 첨부파일 참조만 담고 이미지는 메시지 뒤에 바이너리로 전달
+      MmsSendRequestEvent event = MmsSendRequestEvent.from(notification, notification.getOption());
+      List<NotificationAttachment> attachments =
+          attachmentService.findReferenced(notification.getOption());
+
+      return messageSender.send(mmsExchange, event, attachments);
+    }
+
+    String imageBase64 = attachmentService.resolveDataUri(notification.getOption());
 
     MmsSendRequestEvent event = MmsSendRequestEvent.from(notification, imageBase64);
 
-    publishEvent(event, notification.getEventType());
+    return messageSender.send(mmsExchange, event);
   }
 
   @Override
   public boolean supports(NotificationChannel channel) {
     return channel == NotificationChannel.MMS;
   }
-
-  private void publishEvent(DomainEvent event, String eventDescription) {
-    log.info("{} MMS 발송 이벤트 발행 시작: {}", eventDescription, event);
-
-    IntegrationEvent integrationEvent = IntegrationEvent.from(event, serviceName);
-
-    try {
-      rabbitTemplate.convertAndSend(mmsExchange, event.getRoutingKey(), integrationEvent);
-      log.info(
-          "{} MMS 발송 이벤트 발행 완료: exchange={}, routingKey={}",
-          eventDescription,
-          mmsExchange,
-          event.getRoutingKey());
-    } catch (AmqpException e) {
-      log.error(
-          "{} MMS 발송 이벤트 발행 실패: exchange={}, routingKey={}, event={}",
-          eventDescription,
-          mmsExchange,
-          event.getRoutingKey(),
-          event,
-          e);
-      throw e;
-    }
-  }
 }
@@ -0,0 +1,125 @@
+package com.tickatch.notificationservice.notification.infrastructure.message.publisher;
+
+import com.tickatch.notificationservice.global.infrastructure.NotificationMetrics;
+import com.tickatch.notificationservice.notification.domain.NotificationAttachment;
+import io.github.tickatch.common.event.DomainEvent;
+import io.github.tickatch.common.event.IntegrationEvent;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채널별 발행기가 공유하는 비동기 메시지 발송기.
+ *
+ * <p>메시지마다 {@link CorrelationData}를 붙여 confirm을 기다리지 않고 연달아 발행하고, 브로커의 publisher confirm(ack/nack)과
+ * 라우팅 실패(return)를 상관 ID로 매칭해 {@link CompletableFuture}로 알린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationMessageSender {
+
+  @Value("${spring.application.name:notification-service}")
+  private String serviceName;
+
+  private final RabbitTemplate rabbitTemplate;
+  private final AttachmentMessageFactory attachmentMessageFactory;
+  private final NotificationMetrics notificationMetrics;
+
+  /** 이벤트 발행 (브로커가 수신을 확인하면 완료) */
+  public CompletableFuture<Void> send(String exchange, DomainEvent event) {
+    return send(exchange, event, List.of());
+  }
+
+  /** 첨부파일을 바이너리로 붙여 이벤트 발행 (첨부파일이 없으면 JSON 메시지로 발행) */
+  public CompletableFuture<Void> send(
+      String exchange, DomainEvent event, List<NotificationAttachment> attachments) {
+    String routingKey = event.getRoutingKey();
+    IntegrationEvent integrationEvent = IntegrationEvent.from(event, serviceName);
+    CorrelationData correlation = new CorrelationData();
+
+    log.debug(
+        "발송 이벤트 발행 시작: exchange={}, routingKey={}, correlationId={}",
+        exchange,
+        routingKey,
+        correlation.getId());
+
+    try {
+      // 본문 크기를 기록하기 위해 convertAndSend 대신 직접 변환 (변환 방식은 동일)
+      Message message;
+      String format;
+      if (attachments.isEmpty()) {
+        message =
+            rabbitTemplate
+                .getMessageConverter()
+                .toMessage(integrationEvent, new MessageProperties());
+        format = "json";
+      } else {
+        message = attachmentMessageFactory.create(integrationEvent, attachments);
+        format = AttachmentMessageFactory.PAYLOAD_FORMAT_BINARY;
+      }
+      notificationMetrics.recordPayloadSize(routingKey, format, message.getBody().length);
+
+      rabbitTemplate.send(exchange, routingKey, message, correlation);
+    } catch (AmqpException e) {
+      log.error("발송 이벤트 발행 실패: exchange={}, routingKey={}", exchange, routingKey, e);
+      return CompletableFuture.failedFuture(e);
+    }
+
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    correlation
+        .getFuture()
+        .whenComplete(
+            (confirm, throwable) -> {
+              if (throwable != null) {
+                result.completeExceptionally(throwable);
+              } else if (!confirm.isAck()) {
+                result.completeExceptionally(
+                    new AmqpException("브로커가 메시지를 거부했습니다: " + confirm.getReason()));
+              } else if (correlation.getReturned() != null) {
+                result.completeExceptionally(
+                    new AmqpException("메시지 라우팅 실패: " + describe(correlation.getReturned())));
+              } else {
+                result.complete(null);
+              }
+            });
+
+    return result.whenComplete(
+        (ignored, throwable) -> {
+          if (throwable != null) {
+            log.error(
+                "발송 이벤트 발행 실패: exchange={}, routingKey={}, correlationId={}",
+                exchange,
+                routingKey,
+                correlation.getId(),
+                throwable);
+          } else {
+            log.debug(
+                "발송 이벤트 발행 완료: exchange={}, routingKey={}, correlationId={}",
+                exchange,
+                routingKey,
+                correlation.getId());
+          }
+        });
+  }
+
+  private String describe(ReturnedMessage returned) {
+    return returned.getReplyCode()
+        + " "
+        + returned.getReplyText()
+        + " (exchange="
+        + returned.getExchange()
+        + ", routingKey="
+        + returned.getRoutingKey()
+        + ")";
+  }
+}
@@ -1,15 +1,15 @@
 package com.tickatch.notificationservice.notification.infrastructure.message.publisher;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import com.tickatch.notificationservice.global.infrastructure.SuccessLogSamplingFilter;
 import com.tickatch.notificationservice.notification.application.NotificationPublisher;
 import com.tickatch.notificationservice.notification.domain.Notification;
 import com.tickatch.notificationservice.notification.domain.NotificationChannel;
 import com.tickatch.notificationservice.notification.infrastructure.message.dto.SlackSendRequestEvent;
-import io.github.tickatch.common.event.DomainEvent;
-import io.github.tickatch.common.event.IntegrationEvent;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.AmqpException;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -18,49 +18,25 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class SlackNotificationPublisher implements NotificationPublisher {
 
-  @Value("${spring.application.name:notification-service}")
-  private String serviceName;
-
-  private final RabbitTemplate rabbitTemplate;
+  private final NotificationMessageSender messageSender;
 
   @Value("${messaging.slack.exchange:tickatch.slack}")
   private String slackExchange;
 
   @Override
-  public void publish(Notification notification) {
-    log.info("Slack 발송 메시지 발행: notificationId={}", notification.getId());
+  public CompletableFuture<Void> publish(Notification notification) {
+    log.info(
+        SuccessLogSamplingFilter.SUCCESS,
+        "Slack 발송 메시지 발행: {}",
+        kv("notificationId", notification.getId()));
 
     SlackSendRequestEvent event = SlackSendRequestEvent.from(notification);
 
-    publishEvent(event, notification.getEventType());
+    return messageSender.send(slackExchange, event);
   }
 
   @Override
   public boolean supports(NotificationChannel channel) {
     return channel == NotificationChannel.SLACK;
   }
-
-  private void publishEvent(DomainEvent event, String eventDescription) {
-    log.info("{} Slack 발송 이벤트 발행 시작: {}", eventDescription, event);
-
-    IntegrationEvent integrationEvent = IntegrationEvent.from(event, serviceName);
-
-    try {
-      rabbitTemplate.convertAndSend(slackExchange, event.getRoutingKey(), integrationEvent);
-      log.info(
-          "{} Slack 발송 이벤트 발행 완료: exchange={}, routingKey={}",
-          eventDescription,
-          slackExchange,
-          event.getRoutingKey());
-    } catch (AmqpException e) {
-      log.error(
-          "{} Slack 발송 이벤트 발행 실패: exchange={}, routingKey={}, event={}",
-          eventDescription,
-          slackExchange,
-          event.getRoutingKey(),
-          event,
-          e);
-      throw e;
-    }
-  }
 }
@@ -0,0 +1,101 @@
+package com.tickatch.notificationservice.notification.infrastructure.persistence;
+
+import com.tickatch.notificationservice.notification.domain.AppliedSendResult;
+import com.tickatch.notificationservice.notification.domain.NotificationBulkRepository;
+import com.tickatch.notificationservice.notification.domain.NotificationChannel;
+import com.tickatch.notificationservice.notification.domain.NotificationSendResult;
+import com.tickatch.notificationservice.notification.domain.NotificationStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link NotificationBulkRepository} 구현.
+ *
+ * <p>PostgreSQL의 {@code UPDATE ... FROM (VALUES ...) RETURNING}으로 결과 묶음을 한 번의 왕복으로 반영한다. Spring
+ * Data는 조각(fragment) 구현을 저장소 인터페이스 패키지(domain)에서만 찾으므로 {@code META-INF/spring.factories}로 등록한다.
+ */
+public class NotificationBulkRepositoryImpl implements NotificationBulkRepository {
+
+  /** 한 문장에 담을 최대 결과 수 (바인드 파라미터 수 제한 대비) */
+  private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+  private static final String VALUES_PLACEHOLDER = "{values}";
+
+  private static final String APPLY_SEND_RESULTS_TEMPLATE =
+      """
+      UPDATE {h-schema}p_notification n
+      SET status = CASE WHEN v.success THEN 'SENT' ELSE 'FAILED' END,
+          sent_at = CASE WHEN v.success THEN ?1 ELSE n.sent_at END,
+          error_message = CASE WHEN v.success THEN n.error_message ELSE v.error_message END,
+          retry_count = CASE WHEN v.success THEN n.retry_count ELSE n.retry_count + 1 END,
+          updated_at = ?1
+      FROM (VALUES {values}) AS v (id, success, error_message)
+      WHERE n.id = v.id AND n.status = 'PROCESSING'
+      RETURNING n.id, n.channel, n.status, n.retry_count
+      """;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public List<AppliedSendResult> applySendResults(List<NotificationSendResult> results) {
+    List<AppliedSendResult> applied = new ArrayList<>(results.size());
+    LocalDateTime now = LocalDateTime.now();
+
+    for (int from = 0; from < results.size(); from += MAX_ROWS_PER_STATEMENT) {
+      List<NotificationSendResult> chunk =
+          results.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, results.size()));
+      applied.addAll(applyChunk(chunk, now));
+    }
+
+    return applied;
+  }
+
+  private List<AppliedSendResult> applyChunk(
+      List<NotificationSendResult> chunk, LocalDateTime now) {
+    StringBuilder values = new StringBuilder(chunk.size() * 64);
+    for (int i = 0; i < chunk.size(); i++) {
+      int param = 2 + i * 3;
+      if (i > 0) {
+        values.append(", ");
+      }
+      values
+          .append("(CAST(?")
+          .append(param)
+          .append(" AS bigint), CAST(?")
+          .append(param + 1)
+          .append(" AS boolean), CAST(?")
+          .append(param + 2)
+          .append(" AS text))");
+    }
+
+    Query query =
+        entityManager.createNativeQuery(
+            APPLY_SEND_RESULTS_TEMPLATE.replace(VALUES_PLACEHOLDER, values));
+    query.setParameter(1, now);
+    for (int i = 0; i < chunk.size(); i++) {
+      NotificationSendResult result = chunk.get(i);
+      int param = 2 + i * 3;
+      query.setParameter(param, result.notificationId());
+      query.setParameter(param + 1, result.success());
+      query.setParameter(param + 2, result.success() ? "" : result.errorMessage());
+    }
+
+    @SuppressWarnings("unchecked")
+    List<Object[]> rows = query.getResultList();
+
+    List<AppliedSendResult> applied = new ArrayList<>(rows.size());
+    for (Object[] row : rows) {
+      applied.add(
+          new AppliedSendResult(
+              ((Number) row[0]).longValue(),
+              NotificationChannel.valueOf((String) row[1]),
+              NotificationStatus.valueOf((String) row[2]),
+              ((Number) row[3]).intValue()));
+    }
+    return applied;
+  }
+}
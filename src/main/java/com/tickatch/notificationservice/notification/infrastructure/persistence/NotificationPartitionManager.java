@@ -0,0 +1,236 @@
+package com.tickatch.notificationservice.notification.infrastructure.persistence;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * p_notification 월 파티션 관리 작업.
+ *
+ * <p>앞으로 사용할 월 파티션을 미리 생성하고, 보관 기간이 지난 월 파티션은 먼저 분리(detach)한 뒤 행을 gzip JSONL 파일로 보관하고 삭제한다. 애플리케이션은
+ * 상위 테이블로만 기록하므로 분리가 끝난 테이블에는 더 이상 쓰기가 들어오지 않아, 보관 중이나 보관 후 삭제 전에 반영된 UPDATE가 유실되지 않는다. 분리 후 보관이
+ * 실패해 남은 테이블은 다음 실행에서 다시 보관한다. 테이블을 파티션 테이블로 전환하는 작업은 {@code db/p_notification_partitioning.sql}로
+ * 1회 수행한다. 여러 인스턴스가 동시에 실행하지 않도록 advisory lock을 사용한다 (분리는 {@code DETACH PARTITION ...
+ * CONCURRENTLY}가 트랜잭션 블록 밖에서만 실행되므로 자동 커밋 연결 하나에서 세션 단위 lock으로 처리).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.partition.enabled", havingValue = "true")
+public class NotificationPartitionManager {
+
+  private static final String TABLE = "p_notification";
+  private static final Pattern PARTITION_NAME = Pattern.compile(TABLE + "_y(\\d{4})m(\\d{2})");
+  private static final String LOCK_KEY = "notification.p_notification.partition";
+  private static final int ARCHIVE_FETCH_SIZE = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final JdbcTemplate archiveJdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final String schema;
+  private final int premakeMonths;
+  private final int retentionMonths;
+  private final Path archiveDirectory;
+
+  public NotificationPartitionManager(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${spring.jpa.properties.hibernate.default_schema:notification}") String schema,
+      @Value("${notification.partition.premake-months:3}") int premakeMonths,
+      @Value("${notification.partition.retention-months:12}") int retentionMonths,
+      @Value("${notification.partition.archive-dir:./archive}") Path archiveDirectory) {
+    this.jdbcTemplate = jdbcTemplate;
+    // PgJDBC는 자동 커밋이 꺼진 트랜잭션에서 fetch size가 지정된 경우에만 결과를 나눠 가져옴
+    this.archiveJdbcTemplate =
+        new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+    this.archiveJdbcTemplate.setFetchSize(ARCHIVE_FETCH_SIZE);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.schema = schema;
+    this.premakeMonths = premakeMonths;
+    this.retentionMonths = retentionMonths;
+    this.archiveDirectory = archiveDirectory;
+  }
+
+  @Scheduled(cron = "${notification.partition.cron:0 30 3 * * *}")
+  public void managePartitions() {
+    try {
+      createFuturePartitions(YearMonth.now());
+      archiveExpiredPartitions(YearMonth.now().minusMonths(retentionMonths));
+    } catch (Exception e) {
+      log.error("알림 파티션 관리 실패", e);
+    }
+  }
+
+  /** 이번 달부터 premakeMonths 이후까지의 월 파티션 생성 */
+  void createFuturePartitions(YearMonth current) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          if (!tryLock(jdbcTemplate, "pg_try_advisory_xact_lock")) {
+            return;
+          }
+
+          for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth month = current.plusMonths(i);
+            jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+                    .formatted(
+                        qualified(partitionName(month)),
+                        qualified(TABLE),
+                        month.atDay(1),
+                        month.plusMonths(1).atDay(1)));
+          }
+          log.info("알림 파티션 생성 확인: from={}, to={}", current, current.plusMonths(premakeMonths));
+        });
+  }
+
+  /** cutoff 이전 월 파티션을 분리 후 보관/삭제 (월 파티션 이름 형식이 아닌 테이블은 제외) */
+  void archiveExpiredPartitions(YearMonth cutoff) {
+    jdbcTemplate.execute(
+        (ConnectionCallback<Void>)
+            connection -> {
+              JdbcTemplate session =
+                  new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+              if (!tryLock(session, "pg_try_advisory_lock")) {
+                return null;
+              }
+
+              try {
+                for (Partition partition : findPartitions(session)) {
+                  Optional<YearMonth> month = parseMonth(partition.name());
+                  if (month.isPresent() && month.get().isBefore(cutoff)) {
+                    detachArchiveAndDrop(session, partition);
+                  }
+                }
+              } finally {
+                session.queryForObject(
+                    "SELECT pg_advisory_unlock(hashtext(?))", Boolean.class, LOCK_KEY);
+              }
+              return null;
+            });
+  }
+
+  /** 자동 커밋 연결에서 실행 (분리 중 잠금은 상위 테이블 SHARE UPDATE EXCLUSIVE로 조회/INSERT를 막지 않음) */
+  private void detachArchiveAndDrop(JdbcTemplate session, Partition partition) {
+    if (partition.attached()) {
+      // 이전 실행의 CONCURRENTLY 분리가 중단되어 분리 대기 상태로 남은 경우 마무리
+      String detach = partition.detachPending() ? "FINALIZE" : "CONCURRENTLY";
+      session.execute(
+          "ALTER TABLE %s DETACH PARTITION %s %s"
+              .formatted(qualified(TABLE), qualified(partition.name()), detach));
+    }
+
+    Path archive = archiveDirectory.resolve(partition.name() + ".jsonl.gz");
+    long rows = archive(partition.name(), archive);
+    session.execute("DROP TABLE %s".formatted(qualified(partition.name())));
+
+    log.info("알림 파티션 보관 및 삭제: partition={}, rows={}, archive={}", partition.name(), rows, archive);
+  }
+
+  /**
+   * 분리된 테이블의 모든 행을 JSON 한 줄씩 gzip 파일로 기록 (임시 파일에 쓴 뒤 이동).
+   *
+   * <p>분리 세션과 다른 연결의 트랜잭션에서 fetch size 단위로 읽어 파티션 전체를 메모리에 올리지 않는다.
+   */
+  private long archive(String partition, Path archive) {
+    try {
+      Files.createDirectories(archiveDirectory);
+      Path temp = Files.createTempFile(archiveDirectory, partition, ".tmp");
+      long[] rows = {0};
+
+      try (Writer writer =
+          new BufferedWriter(
+              new OutputStreamWriter(
+                  new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+        transactionTemplate.executeWithoutResult(
+            status ->
+                archiveJdbcTemplate.query(
+                    "SELECT row_to_json(t)::text FROM %s t ORDER BY t.id"
+                        .formatted(qualified(partition)),
+                    resultSet -> {
+                      try {
+                        writer.write(resultSet.getString(1));
+                        writer.write('\n');
+                        rows[0]++;
+                      } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                      }
+                    }));
+      }
+
+      Files.move(temp, archive, StandardCopyOption.REPLACE_EXISTING);
+      return rows[0];
+
+    } catch (IOException e) {
+      throw new UncheckedIOException("알림 파티션 보관 파일 생성 실패: " + partition, e);
+    }
+  }
+
+  /** 월 파티션 이름 형식 후보 테이블 조회 (분리 후 보관이 끝나지 않아 남은 테이블 포함) */
+  private List<Partition> findPartitions(JdbcTemplate session) {
+    return session.query(
+        """
+        SELECT c.relname, i.inhrelid IS NOT NULL, COALESCE(i.inhdetachpending, false)
+        FROM pg_class c
+        JOIN pg_namespace n ON n.oid = c.relnamespace
+        LEFT JOIN pg_inherits i ON i.inhrelid = c.oid
+        WHERE c.relkind = 'r' AND n.nspname = ? AND c.relname LIKE ?
+        ORDER BY c.relname
+        """,
+        (resultSet, rowNum) ->
+            new Partition(resultSet.getString(1), resultSet.getBoolean(2), resultSet.getBoolean(3)),
+        schema,
+        TABLE + "\\_y%");
+  }
+
+  private boolean tryLock(JdbcTemplate session, String lockFunction) {
+    Boolean locked =
+        session.queryForObject(
+            "SELECT %s(hashtext(?))".formatted(lockFunction), Boolean.class, LOCK_KEY);
+    if (!Boolean.TRUE.equals(locked)) {
+      log.info("다른 인스턴스가 알림 파티션 관리 중");
+      return false;
+    }
+    return true;
+  }
+
+  private String qualified(String table) {
+    return schema + "." + table;
+  }
+
+  private record Partition(String name, boolean attached, boolean detachPending) {}
+
+  static String partitionName(YearMonth month) {
+    return "%s_y%04dm%02d".formatted(TABLE, month.getYear(), month.getMonthValue());
+  }
+
+  static Optional<YearMonth> parseMonth(String partition) {
+    Matcher matcher = PARTITION_NAME.matcher(partition);
+    if (!matcher.matches()) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+  }
+}
@@ -0,0 +1,11 @@
+package com.tickatch.notificationservice.template.application;
+
+import com.github.mustachejava.Mustache;
+
+/**
+ * 컴파일된 Mustache 템플릿.
+ *
+ * @param mustache 컴파일된 템플릿
+ * @param weight 캐시 용량 계산에 사용되는 원본 템플릿 길이
+ */
+public record CompiledTemplate(Mustache mustache, int weight) {}
@@ -0,0 +1,47 @@
+package com.tickatch.notificationservice.template.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컴파일된 템플릿 캐시.
+ *
+ * <p>템플릿 원본 길이를 가중치로 사용하는 용량 제한 캐시로, 노드당 템플릿 파일 로드와 컴파일이 한 번만 일어나도록 한다. 적중/미스/제거 지표는 {@code
+ * cache.*{cache=notification.template}} 이름으로 Micrometer에 노출된다.
+ */
+@Component
+public class CompiledTemplateCache {
+
+  private static final String CACHE_NAME = "notification.template";
+
+  private final Cache<TemplateKey, CompiledTemplate> cache;
+
+  public CompiledTemplateCache(
+      MeterRegistry meterRegistry,
+      @Value("${notification.template.cache.max-weight:4194304}") long maxWeight) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxWeight)
+            .weigher((TemplateKey key, CompiledTemplate template) -> template.weight())
+            .recordStats()
+            .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * 캐시된 템플릿을 반환하고, 없으면 로더로 컴파일하여 저장한다.
+   *
+   * @param key 템플릿 키
+   * @param loader 템플릿 로드 및 컴파일 함수
+   * @return 컴파일된 템플릿
+   */
+  public CompiledTemplate get(TemplateKey key, Function<TemplateKey, CompiledTemplate> loader) {
+    return cache.get(key, loader);
+  }
+}
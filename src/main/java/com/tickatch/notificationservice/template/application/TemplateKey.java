@@ -0,0 +1,25 @@
+package com.tickatch.notificationservice.template.application;
+
+import com.tickatch.notificationservice.template.domain.TemplateType;
+
+/**
+ * 컴파일된 템플릿 캐시 키.
+ *
+ * <p>템플릿 코드와 타입, 그리고 본문/제목 구분으로 하나의 템플릿 파일을 식별한다.
+ *
+ * @param templateCode 템플릿 코드 (예: TICKET_ISSUED)
+ * @param type 템플릿 타입
+ * @param subject 이메일 제목 템플릿 여부
+ */
+public record TemplateKey(String templateCode, TemplateType type, boolean subject) {
+
+  /** 본문 템플릿 키 생성 */
+  public static TemplateKey body(String templateCode, TemplateType type) {
+    return new TemplateKey(templateCode, type, false);
+  }
+
+  /** 이메일 제목 템플릿 키 생성 */
+  public static TemplateKey emailSubject(String templateCode) {
+    return new TemplateKey(templateCode, TemplateType.EMAIL, true);
+  }
+}
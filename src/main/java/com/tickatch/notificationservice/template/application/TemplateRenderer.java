@@ -19,6 +19,25 @@ public class TemplateRenderer {
     this.mustacheFactory = new DefaultMustacheFactory();
   }
 
+  /**
+   * Mustache 템플릿을 컴파일합니다.
+   *
+   * @param name 템플릿 이름 (오류 메시지 식별용)
+   * @param template 템플릿 문자열
+   * @return 컴파일된 템플릿
+   */
+  public CompiledTemplate compile(String name, String template) {
+    try {
+      Mustache mustache = mustacheFactory.compile(new StringReader(template), name);
+
+      return new CompiledTemplate(mustache, template.length());
+
+    } catch (Exception e) {
+      log.error("템플릿 컴파일 실패: name={}", name, e);
+      throw new RuntimeException("템플릿 컴파일 중 오류가 발생했습니다.", e);
+    }
+  }
+
   /**
    * Mustache 템플릿을 렌더링합니다.
    *
@@ -27,12 +46,23 @@ public class TemplateRenderer {
    * @return 렌더링된 결과
    */
   public String render(String template, Map<String, Object> variables) {
-    try {
-      log.debug("템플릿 렌더링 시작: variables={}", variables.keySet());
+    return render(compile("template", template), variables);
+  }
+
+  /**
+   * 컴파일된 Mustache 템플릿을 렌더링합니다.
+   *
+   * @param template 컴파일된 템플릿
+   * @param variables 템플릿 변수
+   * @return 렌더링된 결과
+   */
+  public String render(CompiledTemplate template, Map<String, Object> variables) {
+    Mustache mustache = template.mustache();
 
-      Mustache mustache = mustacheFactory.compile(new StringReader(template), "template");
+    try {
+      log.debug("템플릿 렌더링 시작: name={}, variables={}", mustache.getName(), variables.keySet());
 
-      StringWriter writer = new StringWriter();
+      StringWriter writer = new StringWriter(template.weight());
       mustache.execute(writer, variables);
       writer.flush();
 
@@ -42,7 +72,7 @@ public class TemplateRenderer {
       return result;
 
     } catch (Exception e) {
-      log.error("템플릿 렌더링 실패: template={}, variables={}", template, variables, e);
+      log.error("템플릿 렌더링 실패: name={}, variables={}", mustache.getName(), variables, e);
       throw new RuntimeException("템플릿 렌더링 중 오류가 발생했습니다.", e);
     }
   }
@@ -1,9 +1,13 @@
 package com.tickatch.notificationservice.template.application;
 
+import com.tickatch.notificationservice.global.infrastructure.NotificationMetrics;
+import com.tickatch.notificationservice.global.infrastructure.NotificationMetrics.Stage;
 import com.tickatch.notificationservice.template.domain.TemplateType;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
@@ -14,7 +18,14 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class TemplateService {
 
+  private static final String DEFAULT_SUBJECT = "Notification";
+  private static final String TEMPLATE_ROOT = "templates/";
+  private static final String SUBJECT_SUFFIX = "-subject.txt";
+  private static final String TAG_PART = "part";
+
   private final TemplateRenderer templateRenderer;
+  private final CompiledTemplateCache compiledTemplateCache;
+  private final NotificationMetrics notificationMetrics;
 
   /** 템플릿 렌더링 */
   public String renderTemplate(
@@ -22,23 +33,105 @@ public class TemplateService {
 
     log.debug("템플릿 렌더링 요청: code={}, type={}, variables={}", templateCode, type, variables.keySet());
 
-    String templateContent = loadTemplateFromFile(templateCode, type);
-
-    return templateRenderer.render(templateContent, variables);
+    CompiledTemplate template =
+        compiledTemplateCache.get(TemplateKey.body(templateCode, type), this::compileTemplate);
+
+    return notificationMetrics.record(
+        Stage.TEMPLATE_RENDER,
+        () -> templateRenderer.render(template, variables),
+        NotificationMetrics.TAG_TEMPLATE_CODE,
+        templateCode,
+        NotificationMetrics.TAG_CHANNEL,
+        type.name(),
+        TAG_PART,
+        "body");
   }
 
   /** 이메일 제목 렌더링 */
   public String renderEmailSubject(String templateCode, Map<String, Object> variables) {
-    String subjectTemplate = loadEmailSubjectTemplate(templateCode);
+    CompiledTemplate subjectTemplate =
+        compiledTemplateCache.get(TemplateKey.emailSubject(templateCode), this::compileTemplate);
+
+    return notificationMetrics.record(
+        Stage.TEMPLATE_RENDER,
+        () -> templateRenderer.render(subjectTemplate, variables),
+        NotificationMetrics.TAG_TEMPLATE_CODE,
+        templateCode,
+        NotificationMetrics.TAG_CHANNEL,
+        TemplateType.EMAIL.name(),
+        TAG_PART,
+        "subject");
+  }
 
-    return templateRenderer.render(subjectTemplate, variables);
+  /** 템플릿을 미리 컴파일하여 캐시에 적재 */
+  public void precompile(TemplateKey key) {
+    compiledTemplateCache.get(key, this::compileTemplate);
   }
 
-  /** 파일에서 템플릿 로드 */
-  private String loadTemplateFromFile(String templateCode, TemplateType type) {
-    String fileName = buildFileName(templateCode, type);
-    String path = String.format("templates/%s/%s", type.name().toLowerCase(), fileName);
+  /**
+   * 템플릿 루트 기준 상대 경로(예: {@code email/ticket-issued.html})를 템플릿 키로 변환합니다.
+   *
+   * @param relativePath 템플릿 루트 기준 상대 경로
+   * @return 템플릿 키, 템플릿 파일 규칙에 맞지 않으면 빈 값
+   */
+  public Optional<TemplateKey> resolveKey(String relativePath) {
+    int slash = relativePath.indexOf('/');
+    if (slash < 0 || relativePath.indexOf('/', slash + 1) >= 0) {
+      return Optional.empty();
+    }
 
+    TemplateType type;
+    try {
+      type = TemplateType.valueOf(relativePath.substring(0, slash).toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+
+    String fileName = relativePath.substring(slash + 1);
+
+    if (type == TemplateType.EMAIL && fileName.endsWith(SUBJECT_SUFFIX)) {
+      String baseName = fileName.substring(0, fileName.length() - SUBJECT_SUFFIX.length());
+      return Optional.of(TemplateKey.emailSubject(toTemplateCode(baseName)));
+    }
+
+    int dot = fileName.lastIndexOf('.');
+    if (dot <= 0) {
+      return Optional.empty();
+    }
+
+    String templateCode = toTemplateCode(fileName.substring(0, dot));
+    if (!buildFileName(templateCode, type).equals(fileName)) {
+      return Optional.empty();
+    }
+
+    return Optional.of(TemplateKey.body(templateCode, type));
+  }
+
+  /** 템플릿 파일 로드 및 컴파일 (캐시 미스 시 호출) */
+  private CompiledTemplate compileTemplate(TemplateKey key) {
+    return notificationMetrics.record(
+        Stage.TEMPLATE_LOAD,
+        () -> loadAndCompile(key),
+        NotificationMetrics.TAG_TEMPLATE_CODE,
+        key.templateCode(),
+        NotificationMetrics.TAG_CHANNEL,
+        key.type().name(),
+        TAG_PART,
+        key.subject() ? "subject" : "body");
+  }
+
+  private CompiledTemplate loadAndCompile(TemplateKey key) {
+    if (key.subject()) {
+      String path = buildSubjectPath(key.templateCode());
+      return templateRenderer.compile(path, loadEmailSubjectTemplate(path));
+    }
+
+    String path = buildTemplatePath(key.templateCode(), key.type());
+    return templateRenderer.compile(path, loadTemplateFromFile(path));
+  }
+
+  /** 파일에서 템플릿 로드 */
+  private String loadTemplateFromFile(String path) {
     try {
       log.debug("템플릿 파일 로드: {}", path);
 
@@ -56,11 +149,7 @@ public class TemplateService {
   }
 
   /** 이메일 제목 템플릿 로드 */
-  private String loadEmailSubjectTemplate(String templateCode) {
-    String path =
-        String.format(
-            "templates/email/%s-subject.txt", templateCode.toLowerCase().replace('_', '-'));
-
+  private String loadEmailSubjectTemplate(String path) {
     try {
       ClassPathResource resource = new ClassPathResource(path);
       byte[] bytes = resource.getInputStream().readAllBytes();
@@ -68,10 +157,26 @@ public class TemplateService {
       return new String(bytes, StandardCharsets.UTF_8).trim();
     } catch (IOException e) {
       log.warn("제목 템플릿 없음. 기본값 사용: {}", path);
-      return "Notification";
+      return DEFAULT_SUBJECT;
     }
   }
 
+  /** 템플릿 파일 경로 생성 */
+  private String buildTemplatePath(String templateCode, TemplateType type) {
+    String fileName = buildFileName(templateCode, type);
+    return TEMPLATE_ROOT + type.name().toLowerCase() + "/" + fileName;
+  }
+
+  /** 이메일 제목 템플릿 파일 경로 생성 */
+  private String buildSubjectPath(String templateCode) {
+    return TEMPLATE_ROOT + "email/" + templateCode.toLowerCase().replace('_', '-') + SUBJECT_SUFFIX;
+  }
+
+  /** 파일명(확장자 제외)을 템플릿 코드로 변환 */
+  private String toTemplateCode(String baseName) {
+    return baseName.replace('-', '_').toUpperCase(Locale.ROOT);
+  }
+
   /** 템플릿 파일명 생성 */
   private String buildFileName(String templateCode, TemplateType type) {
     String fileName = templateCode.toLowerCase().replace('_', '-');
@@ -0,0 +1,99 @@
+package com.tickatch.notificationservice.template.application;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 기동 시 템플릿 사전 컴파일.
+ *
+ * <p>{@code templates/} 하위의 모든 본문/제목 템플릿을 로드하고 컴파일하여 캐시에 적재한다. 모든 싱글톤 생성 직후, 웹 서버와 RabbitMQ 리스너
+ * 컨테이너가 시작되기 전에 실행되므로 사전 컴파일이 끝나기 전에는 Readiness 응답도 메시지 소비도 일어나지 않는다. 컴파일에 실패하면 기동이 중단된다.
+ */
+@Slf4j
+@Component
+public class TemplateWarmup implements SmartInitializingSingleton {
+
+  private static final String TEMPLATE_PATTERN = "classpath*:templates/**/*.*";
+  private static final String TEMPLATE_ROOT = "templates/";
+
+  private final TemplateService templateService;
+  private final boolean enabled;
+  private final ResourcePatternResolver resourceResolver;
+
+  public TemplateWarmup(
+      TemplateService templateService,
+      @Value("${notification.template.warmup.enabled:true}") boolean enabled) {
+    this.templateService = templateService;
+    this.enabled = enabled;
+    this.resourceResolver = new PathMatchingResourcePatternResolver();
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    if (!enabled) {
+      log.info("템플릿 사전 컴파일 비활성화");
+      return;
+    }
+
+    long startedAt = System.nanoTime();
+    int count = 0;
+
+    for (Resource resource : findTemplates()) {
+      Optional<String> relativePath = toRelativePath(resource);
+      Optional<TemplateKey> key = relativePath.flatMap(templateService::resolveKey);
+
+      if (key.isEmpty()) {
+        log.debug("템플릿 규칙에 맞지 않는 파일 건너뜀: {}", resource.getDescription());
+        continue;
+      }
+
+      long elapsed = precompile(key.get());
+      log.info(
+          "템플릿 사전 컴파일: path={}, elapsed={}ms",
+          relativePath.get(),
+          TimeUnit.NANOSECONDS.toMillis(elapsed));
+      count++;
+    }
+
+    log.info(
+        "템플릿 사전 컴파일 완료: count={}, elapsed={}ms",
+        count,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+  }
+
+  private long precompile(TemplateKey key) {
+    // 로드/컴파일 시간 지표는 TemplateService가 notification.template.load로 기록
+    long startedAt = System.nanoTime();
+    templateService.precompile(key);
+    return System.nanoTime() - startedAt;
+  }
+
+  private Resource[] findTemplates() {
+    try {
+      return resourceResolver.getResources(TEMPLATE_PATTERN);
+    } catch (IOException e) {
+      throw new IllegalStateException("템플릿 목록을 조회할 수 없습니다.", e);
+    }
+  }
+
+  private Optional<String> toRelativePath(Resource resource) {
+    try {
+      String uri = resource.getURI().toString();
+      int index = uri.lastIndexOf(TEMPLATE_ROOT);
+
+      return index < 0
+          ? Optional.empty()
+          : Optional.of(uri.substring(index + TEMPLATE_ROOT.length()));
+    } catch (IOException e) {
+      throw new IllegalStateException("템플릿 경로를 확인할 수 없습니다: " + resource, e);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+-- ========================================
+-- p_notification 월 단위 범위 파티션 전환 (created_at 기준)
+-- ========================================
+-- 배포 전 1회 실행 (점검 시간에 실행 권장). p_notification_seq.sql을 먼저 적용해 ID가 별도 시퀀스
+-- (p_notification_seq)로 할당되고 있어야 한다. 기존 테이블을 삭제하면 IDENTITY가 소유한
+-- p_notification_id_seq도 함께 삭제되지만 더 이상 사용하지 않는다.
+-- 기존 행은 created_at 기준 월 파티션으로 옮기므로 이전 데이터도 NotificationPartitionManager의
+-- 보관 기간 정리(보관 후 삭제) 대상이 된다. 이후 월 파티션은 파티션 관리 작업이 미리 생성한다.
+-- 파티션 테이블의 기본 키에는 파티션 키가 포함되어야 하므로 (id, created_at)으로 변경한다.
+
+BEGIN;
+
+DO $$
+BEGIN
+    IF to_regclass('notification.p_notification_seq') IS NULL THEN
+        RAISE EXCEPTION 'p_notification_seq.sql을 먼저 적용해야 합니다.';
+    END IF;
+END $$;
+
+ALTER TABLE notification.p_notification RENAME TO p_notification_legacy;
+ALTER TABLE notification.p_notification_legacy
+    RENAME CONSTRAINT p_notification_pkey TO p_notification_legacy_pkey;
+ALTER INDEX IF EXISTS notification.idx_notification_user_created
+    RENAME TO idx_notification_legacy_user_created;
+ALTER INDEX IF EXISTS notification.idx_notification_user_channel_created
+    RENAME TO idx_notification_legacy_user_channel_created;
+
+-- IDENTITY는 복사하지 않음 (ID는 p_notification_seq로 할당)
+CREATE TABLE notification.p_notification (
+    LIKE notification.p_notification_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 기존 데이터의 첫 달부터 다음 달까지 월 파티션 생성 (p_notification_yYYYYmMM)
+DO $$
+DECLARE
+    month DATE;
+    last_month DATE := (date_trunc('month', now()) + INTERVAL '1 month')::DATE;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(created_at), now()))::DATE
+    INTO month
+    FROM notification.p_notification_legacy;
+
+    WHILE month <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE notification.%I PARTITION OF notification.p_notification'
+                || ' FOR VALUES FROM (%L) TO (%L)',
+            to_char(month, '"p_notification_y"YYYY"m"MM'),
+            month,
+            (month + INTERVAL '1 month')::DATE);
+        month := (month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+INSERT INTO notification.p_notification
+SELECT * FROM notification.p_notification_legacy;
+
+DO $$
+BEGIN
+    IF (SELECT count(*) FROM notification.p_notification)
+        <> (SELECT count(*) FROM notification.p_notification_legacy) THEN
+        RAISE EXCEPTION '파티션으로 옮긴 행 수가 기존 테이블과 다릅니다.';
+    END IF;
+END $$;
+
+DROP TABLE notification.p_notification_legacy;
+
+CREATE INDEX IF NOT EXISTS idx_notification_user_created
+    ON notification.p_notification (user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_notification_user_channel_created
+    ON notification.p_notification (user_id, channel, created_at DESC, id DESC);
+
+COMMIT;
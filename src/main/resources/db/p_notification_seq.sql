@@ -0,0 +1,14 @@
+-- ========================================
+-- p_notification ID 생성 방식 전환 (IDENTITY -> SEQUENCE, pooled-lo)
+-- ========================================
+-- 배포 전 1회 실행. 기존 IDENTITY 컬럼은 명시적 ID INSERT를 허용하므로 그대로 두고,
+-- 기존 최대 ID 이후부터 시작하는 별도 시퀀스를 만든다.
+-- IDENTITY가 소유한 p_notification_id_seq는 INCREMENT BY 1이므로 재사용하지 않는다.
+-- INCREMENT BY는 Notification.ID_ALLOCATION_SIZE와 같아야 한다.
+
+CREATE SEQUENCE IF NOT EXISTS notification.p_notification_seq INCREMENT BY 50;
+
+SELECT setval(
+    'notification.p_notification_seq',
+    (SELECT COALESCE(MAX(id), 0) + 1 FROM notification.p_notification),
+    false);
@@ -0,0 +1,68 @@
+package com.tickatch.notificationservice.global.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class CompressedTextConverterTest {
+
+  private final CompressedTextConverter enabled = new CompressedTextConverter(true, 1024);
+  private final CompressedTextConverter disabled = new CompressedTextConverter(false, 1024);
+
+  @Test
+  void testCompressesLongContent() throws IOException {
+    String html = loadTemplate();
+
+    String stored = enabled.convertToDatabaseColumn(html);
+
+    assertThat(stored).startsWith(CompressedTextConverter.PREFIX);
+    assertThat(stored.length()).isLessThan(html.length() / 2);
+    assertThat(enabled.convertToEntityAttribute(stored)).isEqualTo(html);
+  }
+
+  @Test
+  void testKeepsShortContentAsIs() {
+    String text = "[Tickatch] 티켓이 발행되었습니다.";
+
+    assertThat(enabled.convertToDatabaseColumn(text)).isEqualTo(text);
+    assertThat(enabled.convertToDatabaseColumn(null)).isNull();
+    assertThat(enabled.convertToEntityAttribute(null)).isNull();
+  }
+
+  @Test
+  void testReadsCompressedRowsWhenDisabled() throws IOException {
+    String html = loadTemplate();
+
+    assertThat(disabled.convertToDatabaseColumn(html)).isEqualTo(html);
+    assertThat(disabled.convertToEntityAttribute(enabled.convertToDatabaseColumn(html)))
+        .isEqualTo(html);
+  }
+
+  @Test
+  void testPrefixedPlainTextRoundTrips() {
+    String text = CompressedTextConverter.PREFIX + "원문";
+
+    String stored = disabled.convertToDatabaseColumn(text);
+
+    assertThat(stored).isNotEqualTo(text);
+    assertThat(disabled.convertToEntityAttribute(stored)).isEqualTo(text);
+  }
+
+  @Test
+  void testRejectsCorruptedContent() {
+    assertThatThrownBy(
+            () -> enabled.convertToEntityAttribute(CompressedTextConverter.PREFIX + "AAAA"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private String loadTemplate() throws IOException {
+    try (InputStream input =
+        getClass().getResourceAsStream("/templates/email/ticket-issued.html")) {
+      return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
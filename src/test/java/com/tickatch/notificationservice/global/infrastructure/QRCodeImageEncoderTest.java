@@ -0,0 +1,104 @@
+package com.tickatch.notificationservice.global.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.google.zxing.qrcode.encoder.Encoder;
+import com.google.zxing.qrcode.encoder.QRCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QRCodeImageEncoderTest {
+
+  private static final String TARGET =
+      "https://www.tickatch.xyz/ticket/checked?ticketId=6f1c2a7e-3b8d-4e0f-9a51-2d7c8b4e6f10";
+
+  private final QRCodeImageEncoder encoder = new QRCodeImageEncoder();
+
+  private QRCodeEncoderPool pool;
+
+  @BeforeEach
+  void setUp() {
+    pool = new QRCodeEncoderPool(new SimpleMeterRegistry(), 1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.destroy();
+  }
+
+  @Test
+  void testEncodePngMatchesQRCodeWriter() throws Exception {
+    QRCode qrCode = Encoder.encode(TARGET, ErrorCorrectionLevel.L);
+    BitMatrix expected = new QRCodeWriter().encode(TARGET, BarcodeFormat.QR_CODE, 300, 300);
+
+    byte[] png = pool.execute(context -> encoder.encodePng(context, qrCode.getMatrix(), 300, 4));
+    BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+
+    assertThat(image.getWidth()).isEqualTo(expected.getWidth());
+    assertThat(image.getHeight()).isEqualTo(expected.getHeight());
+    for (int y = 0; y < expected.getHeight(); y++) {
+      for (int x = 0; x < expected.getWidth(); x++) {
+        int rgb = image.getRGB(x, y) & 0xFFFFFF;
+        assertThat(rgb).isEqualTo(expected.get(x, y) ? 0x000000 : 0xFFFFFF);
+      }
+    }
+  }
+
+  @Test
+  void testEncodePngReusesContext() throws Exception {
+    QRCode first = Encoder.encode(TARGET, ErrorCorrectionLevel.L);
+    QRCode second = Encoder.encode(TARGET + "-2", ErrorCorrectionLevel.L);
+
+    byte[] expected =
+        pool.execute(context -> encoder.encodePng(context, first.getMatrix(), 300, 4));
+    pool.execute(context -> encoder.encodePng(context, second.getMatrix(), 300, 4));
+    byte[] actual = pool.execute(context -> encoder.encodePng(context, first.getMatrix(), 300, 4));
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void testToGrayImageMatchesQRCodeWriter() throws Exception {
+    Map<EncodeHintType, Object> hints =
+        Map.of(
+            EncodeHintType.ERROR_CORRECTION,
+            ErrorCorrectionLevel.L,
+            EncodeHintType.CHARACTER_SET,
+            "UTF-8",
+            EncodeHintType.MARGIN,
+            1);
+    QRCode qrCode = Encoder.encode(TARGET, ErrorCorrectionLevel.L, hints);
+    BitMatrix expected = new QRCodeWriter().encode(TARGET, BarcodeFormat.QR_CODE, 350, 350, hints);
+
+    int[][] gray =
+        pool.execute(
+            context -> {
+              BufferedImage image = encoder.toGrayImage(context, qrCode.getMatrix(), 350, 1);
+              assertThat(image.getType()).isEqualTo(BufferedImage.TYPE_BYTE_GRAY);
+
+              int[][] samples = new int[image.getHeight()][image.getWidth()];
+              for (int y = 0; y < image.getHeight(); y++) {
+                image.getRaster().getSamples(0, y, image.getWidth(), 1, 0, samples[y]);
+              }
+              return samples;
+            });
+
+    assertThat(gray).hasNumberOfRows(expected.getHeight());
+    for (int y = 0; y < expected.getHeight(); y++) {
+      for (int x = 0; x < expected.getWidth(); x++) {
+        assertThat(gray[y][x]).isEqualTo(expected.get(x, y) ? 0 : 255);
+      }
+    }
+  }
+}
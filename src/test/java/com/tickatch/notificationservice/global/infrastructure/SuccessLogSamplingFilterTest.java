@@ -0,0 +1,66 @@
+package com.tickatch.notificationservice.global.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Marker;
+
+class SuccessLogSamplingFilterTest {
+
+  private final Logger logger = new LoggerContext().getLogger(SuccessLogSamplingFilterTest.class);
+
+  @Test
+  void testDropsSuccessLogsWhenRateIsZero() {
+    SuccessLogSamplingFilter filter = startedFilter(0.0);
+
+    assertThat(decide(filter, SuccessLogSamplingFilter.SUCCESS, Level.INFO, null))
+        .isEqualTo(FilterReply.DENY);
+    assertThat(decide(filter, null, Level.INFO, null)).isEqualTo(FilterReply.NEUTRAL);
+  }
+
+  @Test
+  void testKeepsFailureLogs() {
+    SuccessLogSamplingFilter filter = startedFilter(0.0);
+
+    assertThat(decide(filter, SuccessLogSamplingFilter.SUCCESS, Level.WARN, null))
+        .isEqualTo(FilterReply.NEUTRAL);
+    assertThat(
+            decide(
+                filter, SuccessLogSamplingFilter.SUCCESS, Level.INFO, new IllegalStateException()))
+        .isEqualTo(FilterReply.NEUTRAL);
+  }
+
+  @Test
+  void testKeepsAllLogsWhenRateIsOne() {
+    SuccessLogSamplingFilter filter = startedFilter(1.0);
+
+    assertThat(decide(filter, SuccessLogSamplingFilter.SUCCESS, Level.INFO, null))
+        .isEqualTo(FilterReply.NEUTRAL);
+  }
+
+  @Test
+  void testIgnoresInvalidRate() {
+    SuccessLogSamplingFilter filter = startedFilter(1.5);
+
+    assertThat(filter.isStarted()).isFalse();
+    assertThat(decide(filter, SuccessLogSamplingFilter.SUCCESS, Level.INFO, null))
+        .isEqualTo(FilterReply.NEUTRAL);
+  }
+
+  private SuccessLogSamplingFilter startedFilter(double sampleRate) {
+    SuccessLogSamplingFilter filter = new SuccessLogSamplingFilter();
+    filter.setContext(logger.getLoggerContext());
+    filter.setSampleRate(sampleRate);
+    filter.start();
+    return filter;
+  }
+
+  private FilterReply decide(
+      SuccessLogSamplingFilter filter, Marker marker, Level level, Throwable t) {
+    return filter.decide(marker, logger, level, "message", null, t);
+  }
+}
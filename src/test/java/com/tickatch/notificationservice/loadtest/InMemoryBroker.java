@@ -0,0 +1,56 @@
+package com.tickatch.notificationservice.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * 부하 측정용 RabbitMQ 대역.
+ *
+ * <p>실제 컨버터로 메시지 본문을 직렬화한 뒤 연결 없이 즉시 publisher confirm(ack)을 돌려준다. 발행된 메시지 수와 본문 크기를 집계한다.
+ */
+final class InMemoryBroker extends RabbitTemplate {
+
+  private final MessageConverter converter;
+  private final LongAdder messages = new LongAdder();
+  private final LongAdder bytes = new LongAdder();
+
+  InMemoryBroker(MessageConverter converter) {
+    this.converter = converter;
+    setMessageConverter(converter);
+  }
+
+  @Override
+  public void convertAndSend(
+      String exchange, String routingKey, Object object, CorrelationData correlationData) {
+    Message message = converter.toMessage(object, new MessageProperties());
+    send(exchange, routingKey, message, correlationData);
+  }
+
+  @Override
+  public void send(
+      String exchange, String routingKey, Message message, CorrelationData correlationData) {
+    messages.increment();
+    bytes.add(message.getBody().length);
+
+    if (correlationData != null) {
+      correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+    }
+  }
+
+  long messages() {
+    return messages.sum();
+  }
+
+  long bytes() {
+    return bytes.sum();
+  }
+
+  void reset() {
+    messages.reset();
+    bytes.reset();
+  }
+}
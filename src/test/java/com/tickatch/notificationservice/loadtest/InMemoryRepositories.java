@@ -0,0 +1,407 @@
+package com.tickatch.notificationservice.loadtest;
+
+import com.tickatch.notificationservice.notification.domain.AppliedSendResult;
+import com.tickatch.notificationservice.notification.domain.Notification;
+import com.tickatch.notificationservice.notification.domain.NotificationAttachment;
+import com.tickatch.notificationservice.notification.domain.NotificationAttachmentRepository;
+import com.tickatch.notificationservice.notification.domain.NotificationChannel;
+import com.tickatch.notificationservice.notification.domain.NotificationOutbox;
+import com.tickatch.notificationservice.notification.domain.NotificationOutboxRepository;
+import com.tickatch.notificationservice.notification.domain.NotificationRepository;
+import com.tickatch.notificationservice.notification.domain.NotificationSendResult;
+import com.tickatch.notificationservice.notification.domain.NotificationStatus;
+import com.tickatch.notificationservice.notification.domain.NotificationSummary;
+import com.tickatch.notificationservice.notification.domain.ProcessedEventRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.StreamSupport;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 부하 측정용 저장소 대역.
+ *
+ * <p>JPA/PostgreSQL 없이 동작하는 스레드 안전한 메모리 저장소로, 이벤트 처리 경로에서 호출하는 쿼리의 의미(조건부 상태 전이, 선점, 중복 무시)와 조회
+ * API의 페이지/키셋 조회를 메모리 맵 위에서 재현한다.
+ */
+final class InMemoryRepositories {
+
+  private InMemoryRepositories() {}
+
+  static final class Notifications implements NotificationRepository {
+
+    /** 키셋 조회 정렬 (createdAt DESC, id DESC) */
+    private static final Comparator<Notification> LATEST_FIRST =
+        Comparator.comparing(Notification::getCreatedAt)
+            .thenComparing(Notification::getId)
+            .reversed();
+
+    private final Map<Long, Notification> notifications = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public Notification save(Notification notification) {
+      if (notification.getId() == null) {
+        ReflectionTestUtils.setField(notification, "id", sequence.incrementAndGet());
+        // JPA 감사(@CreatedDate)가 채우는 생성 시각 (키셋 조회 기준)
+        ReflectionTestUtils.setField(notification, "createdAt", LocalDateTime.now());
+      }
+      notifications.put(notification.getId(), notification);
+      return notification;
+    }
+
+    @Override
+    public List<Notification> saveAll(Iterable<Notification> notifications) {
+      return StreamSupport.stream(notifications.spliterator(), false).map(this::save).toList();
+    }
+
+    @Override
+    public Optional<Notification> findById(Long id) {
+      return Optional.ofNullable(notifications.get(id));
+    }
+
+    @Override
+    public List<Notification> findAllById(Iterable<Long> ids) {
+      return StreamSupport.stream(ids.spliterator(), false)
+          .map(notifications::get)
+          .filter(Objects::nonNull)
+          .toList();
+    }
+
+    @Override
+    public synchronized int markAsSent(Long id, LocalDateTime now) {
+      Notification notification = notifications.get(id);
+      if (notification == null || notification.getStatus() != NotificationStatus.PROCESSING) {
+        return 0;
+      }
+      markAsSent(notification, now);
+      return 1;
+    }
+
+    @Override
+    public synchronized int markAsProcessing(Collection<Long> ids, LocalDateTime now) {
+      int updated = 0;
+      for (Long id : ids) {
+        Notification notification = notifications.get(id);
+        if (notification != null && notification.getStatus() == NotificationStatus.FAILED) {
+          notification.markAsProcessing();
+          updated++;
+        }
+      }
+      return updated;
+    }
+
+    @Override
+    public synchronized List<AppliedSendResult> applySendResults(
+        List<NotificationSendResult> results) {
+      List<AppliedSendResult> applied = new ArrayList<>(results.size());
+      for (NotificationSendResult result : results) {
+        Notification notification = notifications.get(result.notificationId());
+        if (notification == null || notification.getStatus() != NotificationStatus.PROCESSING) {
+          continue;
+        }
+
+        if (result.success()) {
+          markAsSent(notification, LocalDateTime.now());
+        } else {
+          ReflectionTestUtils.setField(notification, "status", NotificationStatus.FAILED);
+          ReflectionTestUtils.setField(notification, "errorMessage", result.errorMessage());
+          ReflectionTestUtils.setField(
+              notification, "retryCount", notification.getRetryCount() + 1);
+        }
+        applied.add(
+            new AppliedSendResult(
+                notification.getId(),
+                notification.getChannel(),
+                notification.getStatus(),
+                notification.getRetryCount()));
+      }
+      return applied;
+    }
+
+    /** 저장소 UPDATE와 같은 상태 전이를 엔티티 필드에 직접 반영 */
+    private static void markAsSent(Notification notification, LocalDateTime now) {
+      ReflectionTestUtils.setField(notification, "status", NotificationStatus.SENT);
+      ReflectionTestUtils.setField(notification, "sentAt", now);
+    }
+
+    @Override
+    public Page<NotificationSummary> findAllByUserId(UUID userId, Pageable pageable) {
+      return page(notification -> userId.equals(notification.getUserId()), pageable);
+    }
+
+    @Override
+    public Page<NotificationSummary> findAllByUserIdAndChannel(
+        UUID userId, NotificationChannel channel, Pageable pageable) {
+      return page(
+          notification ->
+              userId.equals(notification.getUserId()) && notification.getChannel() == channel,
+          pageable);
+    }
+
+    @Override
+    public Slice<NotificationSummary> findByUserIdOrderByCreatedAtDescIdDesc(
+        UUID userId, Pageable pageable) {
+      return slice(notification -> userId.equals(notification.getUserId()), pageable);
+    }
+
+    @Override
+    public Slice<NotificationSummary> findByUserIdBefore(
+        UUID userId, LocalDateTime createdAt, Long id, Pageable pageable) {
+      return slice(
+          notification ->
+              userId.equals(notification.getUserId()) && isBefore(notification, createdAt, id),
+          pageable);
+    }
+
+    @Override
+    public Slice<NotificationSummary> findByUserIdAndChannelOrderByCreatedAtDescIdDesc(
+        UUID userId, NotificationChannel channel, Pageable pageable) {
+      return slice(
+          notification ->
+              userId.equals(notification.getUserId()) && notification.getChannel() == channel,
+          pageable);
+    }
+
+    @Override
+    public Slice<NotificationSummary> findByUserIdAndChannelBefore(
+        UUID userId,
+        NotificationChannel channel,
+        LocalDateTime createdAt,
+        Long id,
+        Pageable pageable) {
+      return slice(
+          notification ->
+              userId.equals(notification.getUserId())
+                  && notification.getChannel() == channel
+                  && isBefore(notification, createdAt, id),
+          pageable);
+    }
+
+    /** 조건에 맞는 알림을 Pageable 정렬로 나눠 전체 개수와 함께 반환 (COUNT 쿼리 재현) */
+    private Page<NotificationSummary> page(Predicate<Notification> condition, Pageable pageable) {
+      List<NotificationSummary> matched =
+          notifications.values().stream()
+              .filter(condition)
+              .sorted(comparator(pageable.getSort()))
+              .map(Notifications::toSummary)
+              .toList();
+      if (pageable.isUnpaged()) {
+        return new PageImpl<>(matched);
+      }
+
+      List<NotificationSummary> content =
+          matched.stream().skip(pageable.getOffset()).limit(pageable.getPageSize()).toList();
+      return new PageImpl<>(content, pageable, matched.size());
+    }
+
+    /** 최신순으로 한 건 더 읽어 다음 페이지 여부 판단 (Slice 쿼리 재현) */
+    private Slice<NotificationSummary> slice(Predicate<Notification> condition, Pageable pageable) {
+      List<NotificationSummary> matched =
+          notifications.values().stream()
+              .filter(condition)
+              .sorted(LATEST_FIRST)
+              .skip(pageable.getOffset())
+              .limit(pageable.getPageSize() + 1L)
+              .map(Notifications::toSummary)
+              .toList();
+
+      boolean hasNext = matched.size() > pageable.getPageSize();
+      List<NotificationSummary> content =
+          hasNext ? matched.subList(0, pageable.getPageSize()) : matched;
+      return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /** 커서 (createdAt, id)보다 오래된 알림인지 판단 */
+    private static boolean isBefore(Notification notification, LocalDateTime createdAt, Long id) {
+      return notification.getCreatedAt().isBefore(createdAt)
+          || (notification.getCreatedAt().isEqual(createdAt) && notification.getId() < id);
+    }
+
+    /** Pageable 정렬 조건을 엔티티 프로퍼티 비교로 변환 (정렬 조건이 없으면 ID 순) */
+    private static Comparator<Notification> comparator(Sort sort) {
+      Comparator<Notification> comparator = (left, right) -> 0;
+      for (Sort.Order order : sort) {
+        Comparator<Notification> property =
+            Comparator.comparing(
+                notification -> property(notification, order.getProperty()),
+                Comparator.nullsLast(Comparator.naturalOrder()));
+        comparator = comparator.thenComparing(order.isAscending() ? property : property.reversed());
+      }
+      return comparator.thenComparing(Notification::getId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> property(Notification notification, String name) {
+      return (Comparable<Object>) new BeanWrapperImpl(notification).getPropertyValue(name);
+    }
+
+    private static NotificationSummary toSummary(Notification notification) {
+      return new NotificationSummary(
+          notification.getId(),
+          notification.getUserId(),
+          notification.getEventType(),
+          notification.getChannel(),
+          notification.getTemplateCode(),
+          notification.getSubject(),
+          notification.getRecipient(),
+          notification.getStatus(),
+          notification.getErrorMessage(),
+          notification.getSentAt(),
+          notification.getRetryCount(),
+          notification.getCreatedAt());
+    }
+  }
+
+  /** 아웃박스 (릴레이가 단일 스레드로 실행되므로 행 잠금은 재현하지 않음) */
+  static final class Outbox implements NotificationOutboxRepository {
+
+    private final ConcurrentSkipListMap<Long, NotificationOutbox> entries =
+        new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public NotificationOutbox save(NotificationOutbox outbox) {
+      if (outbox.getId() == null) {
+        ReflectionTestUtils.setField(outbox, "id", sequence.incrementAndGet());
+      }
+      entries.put(outbox.getId(), outbox);
+      return outbox;
+    }
+
+    @Override
+    public List<NotificationOutbox> saveAll(Iterable<NotificationOutbox> outboxes) {
+      return StreamSupport.stream(outboxes.spliterator(), false).map(this::save).toList();
+    }
+
+    @Override
+    public List<NotificationOutbox> findNextBatchForUpdate(LocalDateTime now, int limit) {
+      return entries.values().stream()
+          .filter(entry -> !entry.getAvailableAt().isAfter(now))
+          .limit(limit)
+          .toList();
+    }
+
+    @Override
+    public int deleteAllByIdIn(Collection<Long> ids) {
+      int deleted = 0;
+      for (Long id : ids) {
+        if (entries.remove(id) != null) {
+          deleted++;
+        }
+      }
+      return deleted;
+    }
+
+    int size() {
+      return entries.size();
+    }
+  }
+
+  static final class ProcessedEvents implements ProcessedEventRepository {
+
+    private record State(boolean completed, LocalDateTime acquiredAt) {}
+
+    private final Map<String, State> events = new ConcurrentHashMap<>();
+
+    @Override
+    public int acquire(
+        String eventId, String consumer, LocalDateTime now, LocalDateTime staleBefore) {
+      AtomicInteger acquired = new AtomicInteger();
+      events.compute(
+          eventId,
+          (id, state) -> {
+            if (state == null || (!state.completed() && state.acquiredAt().isBefore(staleBefore))) {
+              acquired.set(1);
+              return new State(false, now);
+            }
+            return state;
+          });
+      return acquired.get();
+    }
+
+    @Override
+    public Optional<Boolean> findCompletedByEventId(String eventId) {
+      return Optional.ofNullable(events.get(eventId)).map(State::completed);
+    }
+
+    @Override
+    public int markCompleted(String eventId, LocalDateTime now) {
+      return events.computeIfPresent(eventId, (id, state) -> new State(true, state.acquiredAt()))
+              == null
+          ? 0
+          : 1;
+    }
+
+    @Override
+    public int release(String eventId) {
+      AtomicInteger released = new AtomicInteger();
+      events.computeIfPresent(
+          eventId,
+          (id, state) -> {
+            if (state.completed()) {
+              return state;
+            }
+            released.set(1);
+            return null;
+          });
+      return released.get();
+    }
+
+    @Override
+    public int deleteAllByAcquiredAtBefore(LocalDateTime before) {
+      int size = events.size();
+      events.values().removeIf(state -> state.acquiredAt().isBefore(before));
+      return size - events.size();
+    }
+  }
+
+  static final class Attachments implements NotificationAttachmentRepository {
+
+    private final Map<String, NotificationAttachment> attachments = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<NotificationAttachment> findById(String id) {
+      return Optional.ofNullable(attachments.get(id));
+    }
+
+    @Override
+    public int insertIfAbsent(
+        String id, String contentType, int size, byte[] data, LocalDateTime createdAt) {
+      AtomicInteger inserted = new AtomicInteger();
+      attachments.computeIfAbsent(
+          id,
+          key -> {
+            inserted.set(1);
+            NotificationAttachment attachment =
+                BeanUtils.instantiateClass(NotificationAttachment.class);
+            ReflectionTestUtils.setField(attachment, "id", id);
+            ReflectionTestUtils.setField(attachment, "contentType", contentType);
+            ReflectionTestUtils.setField(attachment, "size", size);
+            ReflectionTestUtils.setField(attachment, "data", data.clone());
+            ReflectionTestUtils.setField(attachment, "createdAt", createdAt);
+            return attachment;
+          });
+      return inserted.get();
+    }
+  }
+}
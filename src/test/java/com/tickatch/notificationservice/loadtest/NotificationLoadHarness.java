@@ -0,0 +1,385 @@
+package com.tickatch.notificationservice.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickatch.notificationservice.global.infrastructure.NotificationMetrics;
+import com.tickatch.notificationservice.global.infrastructure.QRCodeCache;
+import com.tickatch.notificationservice.global.infrastructure.QRCodeEncoderPool;
+import com.tickatch.notificationservice.global.infrastructure.QRCodeImageEncoder;
+import com.tickatch.notificationservice.global.infrastructure.QRCodeJpegCompressor;
+import com.tickatch.notificationservice.global.infrastructure.QRCodeService;
+import com.tickatch.notificationservice.notification.application.AttachmentService;
+import com.tickatch.notificationservice.notification.application.EventDeduplicationService;
+import com.tickatch.notificationservice.notification.application.NotificationPublisherRouter;
+import com.tickatch.notificationservice.notification.application.NotificationRetryPolicy;
+import com.tickatch.notificationservice.notification.application.NotificationService;
+import com.tickatch.notificationservice.notification.infrastructure.message.EmailTicketDeliveryStrategy;
+import com.tickatch.notificationservice.notification.infrastructure.message.MmsTicketDeliveryStrategy;
+import com.tickatch.notificationservice.notification.infrastructure.message.NotificationOutboxRelay;
+import com.tickatch.notificationservice.notification.infrastructure.message.TicketDeliveryCoordinator;
+import com.tickatch.notificationservice.notification.infrastructure.message.TicketDeliveryMethod;
+import com.tickatch.notificationservice.notification.infrastructure.message.dto.ReservationCompletedEvent;
+import com.tickatch.notificationservice.notification.infrastructure.message.dto.TicketIssuedEvent;
+import com.tickatch.notificationservice.notification.infrastructure.message.listener.InProgressEventDeferrer;
+import com.tickatch.notificationservice.notification.infrastructure.message.listener.ReservationEventListener;
+import com.tickatch.notificationservice.notification.infrastructure.message.listener.TicketEventListener;
+import com.tickatch.notificationservice.notification.infrastructure.message.publisher.AttachmentMessageFactory;
+import com.tickatch.notificationservice.notification.infrastructure.message.publisher.AttachmentTransport;
+import com.tickatch.notificationservice.notification.infrastructure.message.publisher.EmailNotificationPublisher;
+import com.tickatch.notificationservice.notification.infrastructure.message.publisher.MmsNotificationPublisher;
+import com.tickatch.notificationservice.notification.infrastructure.message.publisher.NotificationMessageSender;
+import com.tickatch.notificationservice.notification.infrastructure.message.publisher.SlackNotificationPublisher;
+import com.tickatch.notificationservice.notification.infrastructure.message.publisher.SmsNotificationPublisher;
+import com.tickatch.notificationservice.template.application.CompiledTemplateCache;
+import com.tickatch.notificationservice.template.application.TemplateRenderer;
+import com.tickatch.notificationservice.template.application.TemplateService;
+import io.github.tickatch.common.event.DomainEvent;
+import io.github.tickatch.common.event.IntegrationEvent;
+import io.github.tickatch.common.util.JsonUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * 이벤트 수신부터 발송 이벤트 발행까지의 부하 측정 하니스.
+ *
+ * <p>리스너, 티켓 전송 전략, {@link NotificationService}, 아웃박스 릴레이, 채널별 발행기는 실제 구현을 그대로 사용하고, 저장소와 RabbitMQ만
+ * {@link InMemoryRepositories}와 {@link InMemoryBroker}로 대신한다. 이벤트는 미리 JSON으로 직렬화해 두고 리스너 스레드에서
+ * 역직렬화부터 처리하며, 지정한 속도로 도착한 시각부터 처리 완료까지를 지연 시간으로 기록한다.
+ */
+final class NotificationLoadHarness implements AutoCloseable {
+
+  private static final String SERVICE_NAME = "load-harness";
+  private static final Duration RELAY_INTERVAL = Duration.ofMillis(200);
+  private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(5);
+
+  private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  private final ObjectMapper objectMapper = JsonUtils.getObjectMapper();
+  private final InMemoryRepositories.Outbox outbox = new InMemoryRepositories.Outbox();
+  private final InMemoryBroker broker;
+  private final QRCodeEncoderPool qrCodeEncoderPool;
+  private final TicketEventListener ticketEventListener;
+  private final ReservationEventListener reservationEventListener;
+  private final NotificationOutboxRelay relay;
+  private final ScheduledExecutorService relayExecutor;
+  private final LongAdder relayAllocatedBytes = new LongAdder();
+
+  NotificationLoadHarness(AttachmentTransport attachmentTransport) {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    NotificationMetrics notificationMetrics = new NotificationMetrics(meterRegistry);
+    InMemoryRepositories.Notifications notifications = new InMemoryRepositories.Notifications();
+    MessageConverter converter = new Jackson2JsonMessageConverter(objectMapper);
+    broker = new InMemoryBroker(converter);
+
+    TemplateService templateService =
+        new TemplateService(
+            new TemplateRenderer(),
+            new CompiledTemplateCache(meterRegistry, 4_194_304),
+            notificationMetrics);
+    qrCodeEncoderPool = new QRCodeEncoderPool(meterRegistry, 16);
+    QRCodeService qrCodeService =
+        new QRCodeService(
+            new QRCodeCache(meterRegistry, 33_554_432, Duration.ofMinutes(30)),
+            new QRCodeImageEncoder(),
+            new QRCodeJpegCompressor(meterRegistry),
+            qrCodeEncoderPool,
+            notificationMetrics);
+    AttachmentService attachmentService =
+        new AttachmentService(new InMemoryRepositories.Attachments());
+    NotificationRetryPolicy retryPolicy =
+        new NotificationRetryPolicy(3, 3, 3, 3, Duration.ofSeconds(30), Duration.ofMinutes(10));
+    NotificationService notificationService =
+        new NotificationService(
+            notifications, templateService, outbox, retryPolicy, notificationMetrics);
+    EventDeduplicationService eventDeduplicationService =
+        new EventDeduplicationService(
+            new InMemoryRepositories.ProcessedEvents(),
+            meterRegistry,
+            100_000,
+            Duration.ofMinutes(5),
+            Duration.ofDays(7));
+
+    TicketDeliveryCoordinator coordinator =
+        new TicketDeliveryCoordinator(
+            List.of(
+                new EmailTicketDeliveryStrategy(
+                    notificationService, qrCodeService, attachmentService),
+                new MmsTicketDeliveryStrategy(
+                    notificationService, qrCodeService, attachmentService)));
+    InProgressEventDeferrer inProgressEventDeferrer = new InProgressEventDeferrer(broker);
+    ticketEventListener =
+        new TicketEventListener(coordinator, eventDeduplicationService, inProgressEventDeferrer);
+    reservationEventListener =
+        new ReservationEventListener(
+            notificationService, eventDeduplicationService, inProgressEventDeferrer);
+
+    NotificationMessageSender sender =
+        new NotificationMessageSender(
+            broker, new AttachmentMessageFactory(converter), notificationMetrics);
+    ReflectionTestUtils.setField(sender, "serviceName", SERVICE_NAME);
+
+    EmailNotificationPublisher emailPublisher =
+        new EmailNotificationPublisher(sender, attachmentService);
+    ReflectionTestUtils.setField(emailPublisher, "emailExchange", "tickatch.email");
+    ReflectionTestUtils.setField(emailPublisher, "attachmentTransport", attachmentTransport);
+    MmsNotificationPublisher mmsPublisher = new MmsNotificationPublisher(sender, attachmentService);
+    ReflectionTestUtils.setField(mmsPublisher, "mmsExchange", "tickatch.mms");
+    ReflectionTestUtils.setField(mmsPublisher, "attachmentTransport", attachmentTransport);
+    SmsNotificationPublisher smsPublisher = new SmsNotificationPublisher(sender);
+    ReflectionTestUtils.setField(smsPublisher, "smsExchange", "tickatch.sms");
+    SlackNotificationPublisher slackPublisher = new SlackNotificationPublisher(sender);
+    ReflectionTestUtils.setField(slackPublisher, "slackExchange", "tickatch.slack");
+
+    relay =
+        new NotificationOutboxRelay(
+            outbox,
+            notifications,
+            new NotificationPublisherRouter(
+                List.of(emailPublisher, mmsPublisher, smsPublisher, slackPublisher)),
+            new NoOpTransactionManager(),
+            notificationMetrics,
+            100,
+            Duration.ofSeconds(5));
+
+    relayExecutor = Executors.newSingleThreadScheduledExecutor();
+    relayExecutor.scheduleWithFixedDelay(
+        this::relay, RELAY_INTERVAL.toMillis(), RELAY_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /** 티켓 발행 이벤트 재생 (이메일/MMS 수령을 번갈아 생성) */
+  LoadReport runTicketIssued(LoadOptions options) throws InterruptedException {
+    return run(
+        "TICKET_ISSUED",
+        options,
+        NotificationLoadHarness::ticketIssued,
+        ticketEventListener::handleTicketIssued);
+  }
+
+  /** 예매 완료 이벤트 재생 */
+  LoadReport runReservationCompleted(LoadOptions options) throws InterruptedException {
+    return run(
+        "RESERVATION_COMPLETED",
+        options,
+        NotificationLoadHarness::reservationCompleted,
+        reservationEventListener::handleReservationCompleted);
+  }
+
+  private LoadReport run(
+      String scenario,
+      LoadOptions options,
+      IntFunction<DomainEvent> events,
+      Consumer<IntegrationEvent> listener)
+      throws InterruptedException {
+    int count = options.events();
+    byte[][] messages = new byte[count][];
+    for (int i = 0; i < count; i++) {
+      messages[i] = serialize(events.apply(i));
+    }
+
+    long[] latencies = new long[count];
+    LongAdder allocatedBytes = new LongAdder();
+    LongAdder failures = new LongAdder();
+    broker.reset();
+    relayAllocatedBytes.reset();
+
+    ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+    long intervalNanos = options.ratePerSecond() > 0 ? 1_000_000_000L / options.ratePerSecond() : 0;
+    long start = System.nanoTime();
+
+    for (int i = 0; i < count; i++) {
+      long arrival = start + i * intervalNanos;
+      for (long wait = arrival - System.nanoTime(); wait > 0; wait = arrival - System.nanoTime()) {
+        LockSupport.parkNanos(wait);
+      }
+
+      int index = i;
+      workers.execute(
+          () -> {
+            // 속도 제한이 없으면 모든 이벤트가 한꺼번에 도착하므로 처리 시작 시각부터 측정
+            long from = intervalNanos > 0 ? arrival : System.nanoTime();
+            long allocated = THREADS.getCurrentThreadAllocatedBytes();
+            try {
+              listener.accept(objectMapper.readValue(messages[index], IntegrationEvent.class));
+            } catch (Exception e) {
+              failures.increment();
+            } finally {
+              allocatedBytes.add(THREADS.getCurrentThreadAllocatedBytes() - allocated);
+              latencies[index] = System.nanoTime() - from;
+            }
+          });
+    }
+
+    workers.shutdown();
+    workers.awaitTermination(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    long handled = System.nanoTime();
+
+    // 릴레이가 아웃박스를 모두 발행할 때까지 대기
+    while (outbox.size() > 0 && System.nanoTime() - handled < DRAIN_TIMEOUT.toNanos()) {
+      Thread.sleep(1);
+    }
+    long published = System.nanoTime();
+
+    Arrays.sort(latencies);
+    return new LoadReport(
+        scenario,
+        count,
+        failures.intValue(),
+        broker.messages(),
+        (handled - start) / 1_000_000_000.0,
+        (published - start) / 1_000_000_000.0,
+        percentileMicros(latencies, 0.50),
+        percentileMicros(latencies, 0.90),
+        percentileMicros(latencies, 0.99),
+        latencies[count - 1] / 1_000,
+        allocatedBytes.sum() / count,
+        relayAllocatedBytes.sum() / count,
+        broker.messages() == 0 ? 0 : broker.bytes() / broker.messages());
+  }
+
+  @Override
+  public void close() {
+    relayExecutor.shutdownNow();
+    qrCodeEncoderPool.destroy();
+  }
+
+  private void relay() {
+    long allocated = THREADS.getCurrentThreadAllocatedBytes();
+    relay.relay();
+    relayAllocatedBytes.add(THREADS.getCurrentThreadAllocatedBytes() - allocated);
+  }
+
+  private byte[] serialize(DomainEvent event) {
+    try {
+      return objectMapper.writeValueAsBytes(IntegrationEvent.from(event, SERVICE_NAME));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static long percentileMicros(long[] sorted, double percentile) {
+    return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)]
+        / 1_000;
+  }
+
+  private static TicketIssuedEvent ticketIssued(int index) {
+    boolean email = index % 2 == 0;
+    return new TicketIssuedEvent(
+        UUID.randomUUID(),
+        email ? TicketDeliveryMethod.EMAIL : TicketDeliveryMethod.MMS,
+        UUID.randomUUID(),
+        "R%08d".formatted(index),
+        UUID.randomUUID(),
+        email ? "user%d@tickatch.xyz".formatted(index) : "010%08d".formatted(index),
+        "홍길동",
+        "뮤지컬 <레미제라블>",
+        LocalDateTime.of(2026, 11, 21, 19, 30),
+        "블루스퀘어",
+        "신한카드홀",
+        "VIP석 1층 B열 %d번".formatted(index % 40 + 1));
+  }
+
+  private static ReservationCompletedEvent reservationCompleted(int index) {
+    return new ReservationCompletedEvent(
+        UUID.randomUUID(),
+        "R%08d".formatted(index),
+        UUID.randomUUID(),
+        "user%d@tickatch.xyz".formatted(index),
+        "홍길동",
+        "뮤지컬 <레미제라블>",
+        LocalDateTime.of(2026, 11, 21, 19, 30),
+        "블루스퀘어",
+        "신한카드홀",
+        "VIP석 1층 B열 %d번".formatted(index % 40 + 1));
+  }
+
+  /**
+   * 부하 조건.
+   *
+   * @param events 재생할 이벤트 수
+   * @param ratePerSecond 초당 도착 이벤트 수 (0이면 제한 없음)
+   * @param concurrency 리스너 컨슈머 수
+   */
+  record LoadOptions(int events, int ratePerSecond, int concurrency) {}
+
+  /**
+   * 부하 측정 결과 (지연 시간은 마이크로초, 할당량은 이벤트당 바이트).
+   *
+   * @param handleSeconds 마지막 이벤트의 리스너 처리 완료까지 걸린 시간
+   * @param publishSeconds 아웃박스가 모두 발행될 때까지 걸린 시간
+   */
+  record LoadReport(
+      String scenario,
+      int events,
+      int failures,
+      long published,
+      double handleSeconds,
+      double publishSeconds,
+      long p50,
+      long p90,
+      long p99,
+      long max,
+      long listenerAllocatedBytes,
+      long relayAllocatedBytes,
+      long messageBytes) {
+
+    @Override
+    public String toString() {
+      return ("%s: events=%d, failures=%d, published=%d%n"
+              + "  throughput: handled=%.0f/s, published=%.0f/s%n"
+              + "  latency(us): p50=%d, p90=%d, p99=%d, max=%d%n"
+              + "  allocation(bytes/event): listener=%d, relay=%d, message=%d bytes")
+          .formatted(
+              scenario,
+              events,
+              failures,
+              published,
+              events / handleSeconds,
+              events / publishSeconds,
+              p50,
+              p90,
+              p99,
+              max,
+              listenerAllocatedBytes,
+              relayAllocatedBytes,
+              messageBytes);
+    }
+  }
+
+  /** 트랜잭션 경계만 흉내 내는 트랜잭션 관리자 (저장소 대역은 즉시 반영) */
+  private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+      return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {}
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {}
+  }
+}
@@ -0,0 +1,83 @@
+package com.tickatch.notificationservice.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.tickatch.notificationservice.loadtest.NotificationLoadHarness.LoadOptions;
+import com.tickatch.notificationservice.loadtest.NotificationLoadHarness.LoadReport;
+import com.tickatch.notificationservice.notification.infrastructure.message.publisher.AttachmentTransport;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.LoggerFactory;
+
+/**
+ * RabbitMQ/PostgreSQL 없이 이벤트 처리 경로의 처리량, 지연 시간 분포, 이벤트당 할당량을 측정한다.
+ *
+ * <p>{@code LOAD_TEST_EVENTS}가 설정된 경우에만 실행된다. 도착 속도(초당, 0이면 제한 없음), 컨슈머 수, 첨부파일 전송 방식, 로그 레벨은
+ * {@code LOAD_TEST_RATE}, {@code LOAD_TEST_CONCURRENCY}, {@code LOAD_TEST_ATTACHMENT_TRANSPORT},
+ * {@code LOAD_TEST_LOG_LEVEL}로 지정한다. 측정 전에 이벤트 수의 1/10로 워밍업한다.
+ *
+ * <pre>
+ * LOAD_TEST_EVENTS=20000 LOAD_TEST_RATE=500 ./gradlew test --tests '*NotificationLoadTest'
+ * </pre>
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "LOAD_TEST_EVENTS", matches = "\\d+")
+class NotificationLoadTest {
+
+  private static LoadOptions options;
+  private static AttachmentTransport attachmentTransport;
+
+  @BeforeAll
+  static void setUp() {
+    // 이벤트마다 남는 INFO 로그가 측정값을 왜곡하지 않도록 조정
+    Logger root = (Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
+    root.setLevel(Level.toLevel(env("LOAD_TEST_LOG_LEVEL", "WARN")));
+    // 측정 결과는 로그 레벨과 관계없이 남김
+    ((Logger) LoggerFactory.getLogger(NotificationLoadTest.class)).setLevel(Level.INFO);
+
+    options =
+        new LoadOptions(
+            Integer.parseInt(System.getenv("LOAD_TEST_EVENTS")),
+            Integer.parseInt(env("LOAD_TEST_RATE", "0")),
+            Integer.parseInt(env("LOAD_TEST_CONCURRENCY", "4")));
+    attachmentTransport =
+        AttachmentTransport.valueOf(env("LOAD_TEST_ATTACHMENT_TRANSPORT", "BASE64"));
+  }
+
+  @Test
+  void testTicketIssuedLoad() throws InterruptedException {
+    try (NotificationLoadHarness harness = new NotificationLoadHarness(attachmentTransport)) {
+      harness.runTicketIssued(warmup());
+      LoadReport report = harness.runTicketIssued(options);
+
+      log.info("{}", report);
+      assertThat(report.failures()).isZero();
+      assertThat(report.published()).isEqualTo(options.events());
+    }
+  }
+
+  @Test
+  void testReservationCompletedLoad() throws InterruptedException {
+    try (NotificationLoadHarness harness = new NotificationLoadHarness(attachmentTransport)) {
+      harness.runReservationCompleted(warmup());
+      LoadReport report = harness.runReservationCompleted(options);
+
+      log.info("{}", report);
+      assertThat(report.failures()).isZero();
+      assertThat(report.published()).isEqualTo(options.events());
+    }
+  }
+
+  private static LoadOptions warmup() {
+    return new LoadOptions(
+        Math.max(1, options.events() / 10), options.ratePerSecond(), options.concurrency());
+  }
+
+  private static String env(String name, String defaultValue) {
+    return System.getenv().getOrDefault(name, defaultValue);
+  }
+}
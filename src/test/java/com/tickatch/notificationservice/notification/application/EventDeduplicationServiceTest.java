@@ -0,0 +1,223 @@
+package com.tickatch.notificationservice.notification.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.tickatch.notificationservice.notification.application.EventDeduplicationService.Acquisition;
+import com.tickatch.notificationservice.notification.domain.ProcessedEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 이벤트 중복 소비 방지 선점/완료/해제 검증.
+ *
+ * <p>선점 쿼리가 PostgreSQL 전용 문법({@code INSERT ... ON CONFLICT ... DO UPDATE ... WHERE})을 사용하므로 {@code
+ * TEST_POSTGRES_URL}이 설정된 경우에만 실행한다. 서비스 트랜잭션과 커밋 후 메모리 LRU 반영을 그대로 검증하도록 테스트 트랜잭션은 사용하지 않으며, 같은
+ * 테이블을 공유하는 서비스 빈 두 개로 인스턴스 간 중복을 재현한다.
+ *
+ * <pre>
+ * TEST_POSTGRES_URL=jdbc:postgresql://localhost:5432/notification_test \
+ *   ./gradlew test --tests '*EventDeduplicationServiceTest'
+ * </pre>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+class EventDeduplicationServiceTest {
+
+  private static final String CONSUMER = "test";
+
+  private final EventDeduplicationService instance;
+  private final EventDeduplicationService otherInstance;
+  private final EventDeduplicationService expiringInstance;
+  private final MeterRegistry meterRegistry;
+  private final JdbcTemplate jdbcTemplate;
+
+  EventDeduplicationServiceTest(
+      @Qualifier("instance") EventDeduplicationService instance,
+      @Qualifier("otherInstance") EventDeduplicationService otherInstance,
+      @Qualifier("expiringInstance") EventDeduplicationService expiringInstance,
+      MeterRegistry meterRegistry,
+      JdbcTemplate jdbcTemplate) {
+    this.instance = instance;
+    this.otherInstance = otherInstance;
+    this.expiringInstance = expiringInstance;
+    this.meterRegistry = meterRegistry;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @DynamicPropertySource
+  static void postgres(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", () -> System.getenv("TEST_POSTGRES_URL"));
+    registry.add(
+        "spring.datasource.username",
+        () -> System.getenv().getOrDefault("TEST_POSTGRES_USER", "postgres"));
+    registry.add(
+        "spring.datasource.password",
+        () -> System.getenv().getOrDefault("TEST_POSTGRES_PASSWORD", "postgres"));
+    registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+  }
+
+  @Test
+  void testCompletedEventIsDuplicate() {
+    String eventId = newEventId();
+
+    assertThat(instance.tryAcquire(eventId, CONSUMER)).isEqualTo(Acquisition.ACQUIRED);
+    instance.processAndComplete(eventId, () -> {});
+    double before = duplicates("database");
+
+    // 다른 인스턴스는 메모리에 없으므로 DB 처리 기록으로 판정
+    assertThat(otherInstance.tryAcquire(eventId, CONSUMER)).isEqualTo(Acquisition.COMPLETED);
+    assertThat(duplicates("database") - before).isOne();
+  }
+
+  @Test
+  void testLiveLeaseIsInProgress() {
+    String eventId = newEventId();
+
+    assertThat(instance.tryAcquire(eventId, CONSUMER)).isEqualTo(Acquisition.ACQUIRED);
+
+    assertThat(otherInstance.tryAcquire(eventId, CONSUMER)).isEqualTo(Acquisition.IN_PROGRESS);
+    assertThat(instance.tryAcquire(eventId, CONSUMER)).isEqualTo(Acquisition.IN_PROGRESS);
+  }
+
+  @Test
+  void testStaleLeaseIsReacquired() throws InterruptedException {
+    String eventId = newEventId();
+
+    assertThat(instance.tryAcquire(eventId, CONSUMER)).isEqualTo(Acquisition.ACQUIRED);
+    Thread.sleep(10);
+
+    // 선점 유효 시간이 지난 미완료 기록은 처리 중 장애로 보고 다시 선점
+    assertThat(expiringInstance.tryAcquire(eventId, CONSUMER)).isEqualTo(Acquisition.ACQUIRED);
+  }
+
+  @Test
+  void testStaleLeaseOfCompletedEventIsNotReacquired() throws InterruptedException {
+    String eventId = newEventId();
+
+    instance.tryAcquire(eventId, CONSUMER);
+    instance.processAndComplete(eventId, () -> {});
+    Thread.sleep(10);
+
+    assertThat(expiringInstance.tryAcquire(eventId, CONSUMER)).isEqualTo(Acquisition.COMPLETED);
+  }
+
+  @Test
+  void testReleaseAfterFailureAllowsRedelivery() {
+    String eventId = newEventId();
+    instance.tryAcquire(eventId, CONSUMER);
+
+    assertThatThrownBy(
+            () ->
+                instance.processAndComplete(
+                    eventId,
+                    () -> {
+                      throw new IllegalStateException("발송 실패");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+    instance.release(eventId);
+
+    // 완료 기록은 롤백되고 선점은 해제되어 재전달 시 바로 다시 처리
+    assertThat(otherInstance.tryAcquire(eventId, CONSUMER)).isEqualTo(Acquisition.ACQUIRED);
+  }
+
+  @Test
+  void testReleaseKeepsCompletedRecord() {
+    String eventId = newEventId();
+    instance.tryAcquire(eventId, CONSUMER);
+    instance.processAndComplete(eventId, () -> {});
+
+    instance.release(eventId);
+
+    assertThat(otherInstance.tryAcquire(eventId, CONSUMER)).isEqualTo(Acquisition.COMPLETED);
+  }
+
+  @Test
+  void testCompletedEventIsDroppedFromMemory() {
+    String eventId = newEventId();
+    instance.tryAcquire(eventId, CONSUMER);
+    instance.processAndComplete(eventId, () -> {});
+
+    // DB 기록이 없어도 같은 인스턴스는 메모리 LRU로 판정 (DB 조회 없음)
+    jdbcTemplate.update("DELETE FROM p_processed_event WHERE event_id = ?", eventId);
+    double before = duplicates("memory");
+
+    assertThat(instance.tryAcquire(eventId, CONSUMER)).isEqualTo(Acquisition.COMPLETED);
+    assertThat(duplicates("memory") - before).isOne();
+    assertThat(otherInstance.tryAcquire(eventId, CONSUMER)).isEqualTo(Acquisition.ACQUIRED);
+  }
+
+  @Test
+  void testPurgeExpiredDeletesOldRecords() throws InterruptedException {
+    String eventId = newEventId();
+    instance.tryAcquire(eventId, CONSUMER);
+    Thread.sleep(10);
+
+    expiringInstance.purgeExpired();
+
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM p_processed_event WHERE event_id = ?",
+                Integer.class,
+                eventId))
+        .isZero();
+  }
+
+  private double duplicates(String source) {
+    return meterRegistry
+        .get("notification.event.duplicate")
+        .tag("source", source)
+        .counter()
+        .count();
+  }
+
+  private static String newEventId() {
+    return UUID.randomUUID().toString();
+  }
+
+  @TestConfiguration
+  static class DeduplicationConfig {
+
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    EventDeduplicationService instance(
+        ProcessedEventRepository repository, MeterRegistry meterRegistry) {
+      return new EventDeduplicationService(
+          repository, meterRegistry, 100, Duration.ofMinutes(5), Duration.ofDays(7));
+    }
+
+    @Bean
+    EventDeduplicationService otherInstance(
+        ProcessedEventRepository repository, MeterRegistry meterRegistry) {
+      return new EventDeduplicationService(
+          repository, meterRegistry, 100, Duration.ofMinutes(5), Duration.ofDays(7));
+    }
+
+    /** 선점 유효 시간과 보관 기간이 0인 인스턴스 */
+    @Bean
+    EventDeduplicationService expiringInstance(ProcessedEventRepository repository) {
+      return new EventDeduplicationService(
+          repository, new SimpleMeterRegistry(), 100, Duration.ZERO, Duration.ZERO);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.tickatch.notificationservice.notification.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+class NotificationRetryPolicyTest {
+
+  private final NotificationRetryPolicy policy =
+      new NotificationRetryPolicy(3, 3, 3, 3, Duration.ofSeconds(30), Duration.ofMinutes(10));
+
+  @RepeatedTest(20)
+  void testDelayDoublesPerRetryWithinJitter() {
+    assertThat(policy.delay(1)).isBetween(Duration.ofSeconds(15), Duration.ofSeconds(30));
+    assertThat(policy.delay(2)).isBetween(Duration.ofSeconds(30), Duration.ofSeconds(60));
+    assertThat(policy.delay(3)).isBetween(Duration.ofSeconds(60), Duration.ofSeconds(120));
+  }
+
+  @RepeatedTest(20)
+  void testDelayIsCappedAtMaxDelay() {
+    assertThat(policy.delay(6)).isBetween(Duration.ofMinutes(5), Duration.ofMinutes(10));
+    // 시프트 오버플로 없이 최대 지연으로 제한
+    assertThat(policy.delay(100)).isBetween(Duration.ofMinutes(5), Duration.ofMinutes(10));
+  }
+
+  @Test
+  void testDelayTreatsFirstAttemptAsBaseDelay() {
+    assertThat(policy.delay(0)).isBetween(Duration.ofSeconds(15), Duration.ofSeconds(30));
+  }
+
+  @Test
+  void testDelayWithoutJitterForTinyDelay() {
+    NotificationRetryPolicy tiny =
+        new NotificationRetryPolicy(3, 3, 3, 3, Duration.ofMillis(1), Duration.ofMillis(1));
+
+    assertThat(tiny.delay(5)).isEqualTo(Duration.ofMillis(1));
+  }
+}
@@ -0,0 +1,92 @@
+package com.tickatch.notificationservice.notification.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.TestPropertySource;
+
+@DataJpaTest
+// 운영과 같은 notification 스키마를 사용하도록 H2에도 스키마를 생성
+@TestPropertySource(
+    properties = {
+      "spring.jpa.properties.hibernate.default_schema=notification",
+      "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true"
+    })
+class NotificationRepositoryTest {
+
+  private final NotificationRepository notificationRepository;
+  private final TestEntityManager entityManager;
+
+  NotificationRepositoryTest(
+      NotificationRepository notificationRepository, TestEntityManager entityManager) {
+    this.notificationRepository = notificationRepository;
+    this.entityManager = entityManager;
+  }
+
+  @Test
+  void testMarkAsSentOnlyUpdatesProcessing() {
+    Long pending = save(NotificationStatus.PENDING);
+    Long processing = save(NotificationStatus.PROCESSING);
+
+    assertThat(notificationRepository.markAsSent(pending, LocalDateTime.now())).isZero();
+    assertThat(notificationRepository.markAsSent(processing, LocalDateTime.now())).isOne();
+    // 중복 결과는 이미 SENT이므로 반영되지 않음
+    assertThat(notificationRepository.markAsSent(processing, LocalDateTime.now())).isZero();
+
+    assertThat(statusOf(pending)).isEqualTo(NotificationStatus.PENDING);
+    assertThat(statusOf(processing)).isEqualTo(NotificationStatus.SENT);
+    assertThat(entityManager.find(Notification.class, processing).getSentAt()).isNotNull();
+  }
+
+  @Test
+  void testMarkAsProcessingOnlyUpdatesFailed() {
+    Long failed = save(NotificationStatus.FAILED);
+    Long sent = save(NotificationStatus.SENT);
+
+    int updated =
+        notificationRepository.markAsProcessing(List.of(failed, sent), LocalDateTime.now());
+
+    assertThat(updated).isOne();
+    assertThat(statusOf(failed)).isEqualTo(NotificationStatus.PROCESSING);
+    assertThat(statusOf(sent)).isEqualTo(NotificationStatus.SENT);
+  }
+
+  private Long save(NotificationStatus status) {
+    Notification notification =
+        Notification.create(
+            UUID.randomUUID(),
+            "TICKET_ISSUED",
+            NotificationChannel.EMAIL,
+            "TICKET_ISSUED",
+            "subject",
+            "content",
+            "user@tickatch.com",
+            null);
+    Long id = entityManager.persistAndFlush(notification).getId();
+
+    entityManager
+        .getEntityManager()
+        .createQuery("UPDATE Notification n SET n.status = :status WHERE n.id = :id")
+        .setParameter("status", status)
+        .setParameter("id", id)
+        .executeUpdate();
+    entityManager.clear();
+    return id;
+  }
+
+  private NotificationStatus statusOf(Long id) {
+    entityManager.clear();
+    return entityManager.find(Notification.class, id).getStatus();
+  }
+
+  @TestConfiguration
+  @EnableJpaAuditing
+  static class AuditingConfig {}
+}
@@ -0,0 +1,93 @@
+package com.tickatch.notificationservice.notification.infrastructure.message.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.notificationservice.notification.domain.NotificationAttachment;
+import com.tickatch.notificationservice.notification.infrastructure.message.dto.EmailSendRequestEvent;
+import io.github.tickatch.common.event.IntegrationEvent;
+import io.github.tickatch.common.util.JsonUtils;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class AttachmentMessageFactoryTest {
+
+  private final MessageConverter jsonMessageConverter =
+      new Jackson2JsonMessageConverter(JsonUtils.getObjectMapper());
+  private final AttachmentMessageFactory attachmentMessageFactory =
+      new AttachmentMessageFactory(jsonMessageConverter);
+
+  @Test
+  void testBodyDecodesBackIntoEventAndAttachments() {
+    NotificationAttachment qrCode = attachment("a".repeat(64), "image/png", new byte[] {1, 2, 3});
+    NotificationAttachment logo =
+        attachment("b".repeat(64), "image/jpeg", "logo".getBytes(StandardCharsets.UTF_8));
+    String content =
+        "<img src=\"" + qrCode.getReference() + "\"><img src=\"" + logo.getReference() + "\">";
+    IntegrationEvent event =
+        IntegrationEvent.from(
+            new EmailSendRequestEvent(1L, "user@tickatch.io", "예매 완료", content, true),
+            "notification-service");
+
+    Message message = attachmentMessageFactory.create(event, List.of(qrCode, logo));
+
+    MessageProperties properties = message.getMessageProperties();
+    assertThat(properties.getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_BYTES);
+    assertThat(properties.<String>getHeader(AttachmentMessageFactory.HEADER_PAYLOAD_FORMAT))
+        .isEqualTo(AttachmentMessageFactory.PAYLOAD_FORMAT_BINARY);
+    assertThat(properties.<Integer>getHeader(AttachmentMessageFactory.HEADER_ATTACHMENT_COUNT))
+        .isEqualTo(2);
+
+    IntegrationEvent decoded = decodeEvent(message);
+    assertThat(decoded.getEventId()).isEqualTo(event.getEventId());
+    assertThat(decoded.getPayloadAs(EmailSendRequestEvent.class).getContent()).isEqualTo(content);
+
+    assertThat(decodeAttachment(message, 0)).isEqualTo(new byte[] {1, 2, 3});
+    assertThat(decodeAttachment(message, 1)).isEqualTo("logo".getBytes(StandardCharsets.UTF_8));
+    assertThat(properties.<String>getHeader("x-attachment-0-id"))
+        .isEqualTo(qrCode.getReference().toString());
+    assertThat(properties.<String>getHeader("x-attachment-1-content-type")).isEqualTo("image/jpeg");
+    assertThat(message.getBody()).hasSize(properties.<Integer>getHeader("x-json-length") + 7);
+  }
+
+  /** 수신 측과 같은 방식으로 본문 앞쪽 JSON 구간만 잘라 역직렬화 */
+  private IntegrationEvent decodeEvent(Message message) {
+    MessageProperties properties = message.getMessageProperties();
+    int jsonLength = properties.getHeader(AttachmentMessageFactory.HEADER_JSON_LENGTH);
+
+    MessageProperties jsonProperties = new MessageProperties();
+    jsonProperties.setContentType(
+        properties.getHeader(AttachmentMessageFactory.HEADER_JSON_CONTENT_TYPE));
+    jsonProperties.setInferredArgumentType(IntegrationEvent.class);
+    Message json = new Message(Arrays.copyOf(message.getBody(), jsonLength), jsonProperties);
+
+    return (IntegrationEvent) jsonMessageConverter.fromMessage(json);
+  }
+
+  private byte[] decodeAttachment(Message message, int index) {
+    MessageProperties properties = message.getMessageProperties();
+    String prefix = AttachmentMessageFactory.HEADER_ATTACHMENT_PREFIX + index + "-";
+    int offset = properties.getHeader(prefix + "offset");
+    int length = properties.getHeader(prefix + "length");
+
+    return Arrays.copyOfRange(message.getBody(), offset, offset + length);
+  }
+
+  private NotificationAttachment attachment(String id, String contentType, byte[] data) {
+    NotificationAttachment attachment = BeanUtils.instantiateClass(NotificationAttachment.class);
+    ReflectionTestUtils.setField(attachment, "id", id);
+    ReflectionTestUtils.setField(attachment, "contentType", contentType);
+    ReflectionTestUtils.setField(attachment, "size", data.length);
+    ReflectionTestUtils.setField(attachment, "data", data);
+    ReflectionTestUtils.setField(attachment, "createdAt", LocalDateTime.now());
+    return attachment;
+  }
+}
@@ -0,0 +1,124 @@
+package com.tickatch.notificationservice.notification.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.notificationservice.notification.domain.AppliedSendResult;
+import com.tickatch.notificationservice.notification.domain.Notification;
+import com.tickatch.notificationservice.notification.domain.NotificationChannel;
+import com.tickatch.notificationservice.notification.domain.NotificationRepository;
+import com.tickatch.notificationservice.notification.domain.NotificationSendResult;
+import com.tickatch.notificationservice.notification.domain.NotificationStatus;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 발송 결과 일괄 반영 쿼리 검증.
+ *
+ * <p>PostgreSQL 전용 문법({@code UPDATE ... FROM (VALUES ...) RETURNING})을 사용하므로 {@code
+ * TEST_POSTGRES_URL}이 설정된 경우에만 실행한다. 스키마는 테스트가 생성/삭제하므로 빈 데이터베이스를 지정한다.
+ *
+ * <pre>
+ * TEST_POSTGRES_URL=jdbc:postgresql://localhost:5432/notification_test \
+ *   ./gradlew test --tests '*NotificationBulkRepositoryImplTest'
+ * </pre>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+class NotificationBulkRepositoryImplTest {
+
+  private final NotificationRepository notificationRepository;
+  private final TestEntityManager entityManager;
+
+  NotificationBulkRepositoryImplTest(
+      NotificationRepository notificationRepository, TestEntityManager entityManager) {
+    this.notificationRepository = notificationRepository;
+    this.entityManager = entityManager;
+  }
+
+  @DynamicPropertySource
+  static void postgres(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", () -> System.getenv("TEST_POSTGRES_URL"));
+    registry.add(
+        "spring.datasource.username",
+        () -> System.getenv().getOrDefault("TEST_POSTGRES_USER", "postgres"));
+    registry.add(
+        "spring.datasource.password",
+        () -> System.getenv().getOrDefault("TEST_POSTGRES_PASSWORD", "postgres"));
+    registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+  }
+
+  @Test
+  void testAppliesOnlyProcessingNotifications() {
+    Long sent = save(NotificationStatus.PROCESSING);
+    Long failed = save(NotificationStatus.PROCESSING);
+    Long alreadySent = save(NotificationStatus.SENT);
+
+    List<AppliedSendResult> applied =
+        notificationRepository.applySendResults(
+            List.of(
+                new NotificationSendResult(sent, true, null),
+                new NotificationSendResult(failed, false, "SMTP 오류"),
+                new NotificationSendResult(alreadySent, false, "중복 결과")));
+
+    assertThat(applied)
+        .containsExactlyInAnyOrder(
+            new AppliedSendResult(sent, NotificationChannel.EMAIL, NotificationStatus.SENT, 0),
+            new AppliedSendResult(failed, NotificationChannel.EMAIL, NotificationStatus.FAILED, 1));
+
+    entityManager.clear();
+    Notification failedNotification = entityManager.find(Notification.class, failed);
+    assertThat(failedNotification.getErrorMessage()).isEqualTo("SMTP 오류");
+    assertThat(entityManager.find(Notification.class, sent).getSentAt()).isNotNull();
+    assertThat(entityManager.find(Notification.class, alreadySent).getErrorMessage()).isNull();
+  }
+
+  @Test
+  void testIgnoresRedeliveredResults() {
+    Long id = save(NotificationStatus.PROCESSING);
+    List<NotificationSendResult> results = List.of(new NotificationSendResult(id, false, "오류"));
+
+    assertThat(notificationRepository.applySendResults(results)).hasSize(1);
+    // 같은 결과가 다시 들어와도 이미 FAILED이므로 재발송 횟수가 두 번 늘지 않음
+    assertThat(notificationRepository.applySendResults(results)).isEmpty();
+
+    entityManager.clear();
+    assertThat(entityManager.find(Notification.class, id).getRetryCount()).isOne();
+  }
+
+  private Long save(NotificationStatus status) {
+    Notification notification =
+        Notification.create(
+            UUID.randomUUID(),
+            "TICKET_ISSUED",
+            NotificationChannel.EMAIL,
+            "TICKET_ISSUED",
+            "subject",
+            "content",
+            "user@tickatch.com",
+            null);
+    Long id = entityManager.persistAndFlush(notification).getId();
+
+    entityManager
+        .getEntityManager()
+        .createQuery("UPDATE Notification n SET n.status = :status WHERE n.id = :id")
+        .setParameter("status", status)
+        .setParameter("id", id)
+        .executeUpdate();
+    entityManager.clear();
+    return id;
+  }
+
+  @TestConfiguration
+  @EnableJpaAuditing
+  static class AuditingConfig {}
+}
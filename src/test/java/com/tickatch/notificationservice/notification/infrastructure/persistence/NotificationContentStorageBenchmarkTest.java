@@ -0,0 +1,157 @@
+package com.tickatch.notificationservice.notification.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.notificationservice.global.infrastructure.CompressedTextConverter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * 알림 본문 저장 방식 비교 (원문 TEXT vs {@link CompressedTextConverter} 압축).
+ *
+ * <p>티켓 발행 이메일 템플릿을 본문으로 사용해 행당 저장 크기, INSERT 처리량, 단건 조회 지연을 로컬 PostgreSQL에서 측정한다. 원문은 PostgreSQL
+ * TOAST 압축(pglz) 대상이므로 저장 크기는 {@code pg_column_size}로 비교한다. 실행 조건과 환경 변수는 {@link
+ * NotificationInsertBenchmarkTest}와 같다.
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_POSTGRES_URL", matches = ".+")
+class NotificationContentStorageBenchmarkTest {
+
+  private static final int BATCH_SIZE = 50;
+  private static final int READS = 2000;
+
+  private final CompressedTextConverter plain = new CompressedTextConverter(false, 1024);
+  private final CompressedTextConverter compressed = new CompressedTextConverter(true, 1024);
+
+  private Connection connection;
+  private int rows;
+  private String content;
+
+  @BeforeEach
+  void setUp() throws SQLException, IOException {
+    connection =
+        DriverManager.getConnection(
+            System.getenv("BENCHMARK_POSTGRES_URL"),
+            System.getenv().getOrDefault("BENCHMARK_POSTGRES_USER", "postgres"),
+            System.getenv().getOrDefault("BENCHMARK_POSTGRES_PASSWORD", "postgres"));
+    connection.setAutoCommit(false);
+    rows = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_ROWS", "20000"));
+
+    try (InputStream input =
+        getClass().getResourceAsStream("/templates/email/ticket-issued.html")) {
+      content = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TEMPORARY TABLE bench_plain (id BIGINT PRIMARY KEY, content TEXT)");
+      statement.execute(
+          "CREATE TEMPORARY TABLE bench_compressed (id BIGINT PRIMARY KEY, content TEXT)");
+    }
+    connection.commit();
+  }
+
+  @AfterEach
+  void tearDown() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void testContentStorage() throws SQLException {
+    // 워밍업 (JIT, 서버 측 플랜 캐시)
+    insert("bench_plain", plain, 0, rows / 10);
+    insert("bench_compressed", compressed, 0, rows / 10);
+    read("bench_plain", plain, rows / 10);
+    read("bench_compressed", compressed, rows / 10);
+
+    long start = System.nanoTime();
+    insert("bench_plain", plain, rows / 10, rows);
+    double plainInsertPerSecond = rows / seconds(start);
+
+    start = System.nanoTime();
+    insert("bench_compressed", compressed, rows / 10, rows);
+    double compressedInsertPerSecond = rows / seconds(start);
+
+    start = System.nanoTime();
+    read("bench_plain", plain, rows);
+    double plainReadMicros = seconds(start) * 1_000_000 / READS;
+
+    start = System.nanoTime();
+    read("bench_compressed", compressed, rows);
+    double compressedReadMicros = seconds(start) * 1_000_000 / READS;
+
+    log.info(
+        "알림 본문 저장: rows={}, content={} chars,"
+            + " TEXT(column={} bytes, insert={}/s, read={} us),"
+            + " COMPRESSED(column={} bytes, insert={}/s, read={} us)",
+        rows,
+        content.length(),
+        Math.round(averageColumnSize("bench_plain")),
+        Math.round(plainInsertPerSecond),
+        "%.1f".formatted(plainReadMicros),
+        Math.round(averageColumnSize("bench_compressed")),
+        Math.round(compressedInsertPerSecond),
+        "%.1f".formatted(compressedReadMicros));
+
+    assertThat(averageColumnSize("bench_compressed")).isLessThan(content.length());
+  }
+
+  private void insert(String table, CompressedTextConverter converter, int from, int count)
+      throws SQLException {
+    try (PreparedStatement insert =
+        connection.prepareStatement("INSERT INTO " + table + " (id, content) VALUES (?, ?)")) {
+      for (int i = 0; i < count; i++) {
+        insert.setLong(1, from + i);
+        insert.setString(2, converter.convertToDatabaseColumn(content));
+        insert.addBatch();
+
+        if ((i + 1) % BATCH_SIZE == 0) {
+          insert.executeBatch();
+        }
+      }
+      insert.executeBatch();
+    }
+    connection.commit();
+  }
+
+  /** 무작위 ID로 단건 조회 후 본문 복원 */
+  private void read(String table, CompressedTextConverter converter, int bound)
+      throws SQLException {
+    try (PreparedStatement select =
+        connection.prepareStatement("SELECT content FROM " + table + " WHERE id = ?")) {
+      for (int i = 0; i < READS; i++) {
+        select.setLong(1, (i * 7919L) % bound);
+        try (ResultSet resultSet = select.executeQuery()) {
+          resultSet.next();
+          assertThat(converter.convertToEntityAttribute(resultSet.getString(1)))
+              .hasSameSizeAs(content);
+        }
+      }
+    }
+    connection.commit();
+  }
+
+  private double averageColumnSize(String table) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet =
+            statement.executeQuery("SELECT AVG(pg_column_size(content)) FROM " + table)) {
+      resultSet.next();
+      return resultSet.getDouble(1);
+    }
+  }
+
+  private double seconds(long start) {
+    return (System.nanoTime() - start) / 1_000_000_000.0;
+  }
+}
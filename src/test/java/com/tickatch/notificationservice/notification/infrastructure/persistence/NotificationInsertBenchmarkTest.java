@@ -0,0 +1,176 @@
+package com.tickatch.notificationservice.notification.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.notificationservice.notification.domain.Notification;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * Notification INSERT 처리량 비교 (IDENTITY vs pooled-lo SEQUENCE + JDBC 배치).
+ *
+ * <p>Hibernate가 각 방식에서 실행하는 SQL 패턴을 JDBC로 재현해 로컬 PostgreSQL에서 초당 INSERT 수를 측정한다. {@code
+ * BENCHMARK_POSTGRES_URL}이 설정된 경우에만 실행되며, 계정과 행 수는 {@code BENCHMARK_POSTGRES_USER}, {@code
+ * BENCHMARK_POSTGRES_PASSWORD}, {@code BENCHMARK_ROWS}로 지정한다.
+ *
+ * <pre>
+ * BENCHMARK_POSTGRES_URL=jdbc:postgresql://localhost:5432/postgres?reWriteBatchedInserts=true \
+ *   ./gradlew test --tests '*NotificationInsertBenchmarkTest'
+ * </pre>
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_POSTGRES_URL", matches = ".+")
+class NotificationInsertBenchmarkTest {
+
+  private static final int BATCH_SIZE = Notification.ID_ALLOCATION_SIZE;
+
+  private static final String CREATE_IDENTITY_TABLE =
+      """
+      CREATE TEMPORARY TABLE bench_identity (
+          id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+          user_id UUID NOT NULL,
+          content TEXT,
+          status VARCHAR(20) NOT NULL,
+          created_at TIMESTAMP NOT NULL)
+      """;
+
+  private static final String CREATE_SEQUENCE_TABLE =
+      """
+      CREATE TEMPORARY TABLE bench_sequence (
+          id BIGINT PRIMARY KEY,
+          user_id UUID NOT NULL,
+          content TEXT,
+          status VARCHAR(20) NOT NULL,
+          created_at TIMESTAMP NOT NULL)
+      """;
+
+  private Connection connection;
+  private int rows;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    connection =
+        DriverManager.getConnection(
+            System.getenv("BENCHMARK_POSTGRES_URL"),
+            System.getenv().getOrDefault("BENCHMARK_POSTGRES_USER", "postgres"),
+            System.getenv().getOrDefault("BENCHMARK_POSTGRES_PASSWORD", "postgres"));
+    connection.setAutoCommit(false);
+    rows = Integer.parseInt(System.getenv().getOrDefault("BENCHMARK_ROWS", "20000"));
+
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(CREATE_IDENTITY_TABLE);
+      statement.execute(CREATE_SEQUENCE_TABLE);
+      statement.execute("CREATE TEMPORARY SEQUENCE bench_sequence_seq INCREMENT BY " + BATCH_SIZE);
+    }
+    connection.commit();
+  }
+
+  @AfterEach
+  void tearDown() throws SQLException {
+    connection.close();
+  }
+
+  @Test
+  void testInsertThroughput() throws SQLException {
+    // 워밍업 (JIT, 서버 측 플랜 캐시)
+    insertWithIdentity(rows / 10);
+    insertWithSequence(rows / 10);
+
+    double identityPerSecond = measure(() -> insertWithIdentity(rows));
+    double sequencePerSecond = measure(() -> insertWithSequence(rows));
+
+    log.info(
+        "Notification INSERT 처리량: rows={}, IDENTITY={}/s, SEQUENCE(pooled-lo, batch={})={}/s (x{})",
+        rows,
+        Math.round(identityPerSecond),
+        BATCH_SIZE,
+        Math.round(sequencePerSecond),
+        "%.1f".formatted(sequencePerSecond / identityPerSecond));
+
+    assertThat(count("bench_identity")).isEqualTo(count("bench_sequence"));
+  }
+
+  /** IDENTITY: 생성된 ID를 받기 위해 행마다 INSERT 왕복 (JDBC 배치 불가) */
+  private void insertWithIdentity(int count) throws SQLException {
+    String sql =
+        "INSERT INTO bench_identity (user_id, content, status, created_at) VALUES (?, ?, ?, ?)";
+    try (PreparedStatement insert =
+        connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+      for (int i = 0; i < count; i++) {
+        bindRow(insert, 1);
+        insert.executeUpdate();
+        try (ResultSet keys = insert.getGeneratedKeys()) {
+          keys.next();
+        }
+      }
+    }
+    connection.commit();
+  }
+
+  /** SEQUENCE(pooled-lo): 할당 크기마다 nextval 1회, INSERT는 JDBC 배치로 실행 */
+  private void insertWithSequence(int count) throws SQLException {
+    String sql =
+        "INSERT INTO bench_sequence (id, user_id, content, status, created_at)"
+            + " VALUES (?, ?, ?, ?, ?)";
+    try (PreparedStatement nextval =
+            connection.prepareStatement("SELECT nextval('bench_sequence_seq')");
+        PreparedStatement insert = connection.prepareStatement(sql)) {
+      long lo = 0;
+      for (int i = 0; i < count; i++) {
+        if (i % BATCH_SIZE == 0) {
+          try (ResultSet resultSet = nextval.executeQuery()) {
+            resultSet.next();
+            lo = resultSet.getLong(1);
+          }
+        }
+        insert.setLong(1, lo + i % BATCH_SIZE);
+        bindRow(insert, 2);
+        insert.addBatch();
+
+        if ((i + 1) % BATCH_SIZE == 0) {
+          insert.executeBatch();
+        }
+      }
+      insert.executeBatch();
+    }
+    connection.commit();
+  }
+
+  private void bindRow(PreparedStatement statement, int from) throws SQLException {
+    statement.setObject(from, UUID.randomUUID());
+    statement.setString(from + 1, "티켓이 발행되었습니다. attachment:" + "0".repeat(64));
+    statement.setString(from + 2, "PROCESSING");
+    statement.setTimestamp(from + 3, Timestamp.valueOf(LocalDateTime.now()));
+  }
+
+  private double measure(SqlRunnable runnable) throws SQLException {
+    long start = System.nanoTime();
+    runnable.run();
+    return rows / ((System.nanoTime() - start) / 1_000_000_000.0);
+  }
+
+  private long count(String table) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+      resultSet.next();
+      return resultSet.getLong(1);
+    }
+  }
+
+  @FunctionalInterface
+  private interface SqlRunnable {
+    void run() throws SQLException;
+  }
+}
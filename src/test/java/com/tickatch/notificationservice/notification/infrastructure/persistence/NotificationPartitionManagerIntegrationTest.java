@@ -0,0 +1,178 @@
+package com.tickatch.notificationservice.notification.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 월 파티션 생성/분리/보관/삭제 검증.
+ *
+ * <p>PostgreSQL 파티션 테이블과 {@code DETACH PARTITION ... CONCURRENTLY}를 사용하므로 {@code
+ * TEST_POSTGRES_URL}이 설정된 경우에만 실행한다. 분리는 트랜잭션 블록 밖에서만 실행되므로 테스트 트랜잭션은 사용하지 않으며, 테스트 전용 스키마를
+ * 생성/삭제한다.
+ *
+ * <pre>
+ * TEST_POSTGRES_URL=jdbc:postgresql://localhost:5432/notification_test \
+ *   ./gradlew test --tests '*NotificationPartitionManagerIntegrationTest'
+ * </pre>
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+class NotificationPartitionManagerIntegrationTest {
+
+  private static final String SCHEMA = "partition_test";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PlatformTransactionManager transactionManager;
+
+  @TempDir private Path archiveDirectory;
+
+  private NotificationPartitionManager partitionManager;
+
+  NotificationPartitionManagerIntegrationTest(
+      JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionManager = transactionManager;
+  }
+
+  @DynamicPropertySource
+  static void postgres(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", () -> System.getenv("TEST_POSTGRES_URL"));
+    registry.add(
+        "spring.datasource.username",
+        () -> System.getenv().getOrDefault("TEST_POSTGRES_USER", "postgres"));
+    registry.add(
+        "spring.datasource.password",
+        () -> System.getenv().getOrDefault("TEST_POSTGRES_PASSWORD", "postgres"));
+  }
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+    jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+    jdbcTemplate.execute(
+        "CREATE TABLE "
+            + SCHEMA
+            + ".p_notification (id BIGINT NOT NULL, subject VARCHAR(255),"
+            + " created_at TIMESTAMP NOT NULL, PRIMARY KEY (id, created_at))"
+            + " PARTITION BY RANGE (created_at)");
+
+    partitionManager =
+        new NotificationPartitionManager(
+            jdbcTemplate, transactionManager, SCHEMA, 2, 12, archiveDirectory);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+  }
+
+  @Test
+  void testCreatesFuturePartitionsIdempotently() {
+    partitionManager.createFuturePartitions(YearMonth.of(2026, 11));
+    partitionManager.createFuturePartitions(YearMonth.of(2026, 11));
+
+    assertThat(partitions())
+        .containsExactly(
+            "p_notification_y2026m11", "p_notification_y2026m12", "p_notification_y2027m01");
+  }
+
+  @Test
+  void testArchivesAndDropsExpiredPartitions() throws IOException {
+    partitionManager.createFuturePartitions(YearMonth.of(2025, 1));
+    insert(2, "2025-01-20");
+    insert(1, "2025-01-05");
+    insert(3, "2025-02-10");
+    insert(4, "2025-03-01");
+
+    partitionManager.archiveExpiredPartitions(YearMonth.of(2025, 3));
+
+    assertThat(partitions()).containsExactly("p_notification_y2025m03");
+    assertThat(tables()).containsExactly("p_notification", "p_notification_y2025m03");
+    assertThat(archivedIds("p_notification_y2025m01")).containsExactly("1", "2");
+    assertThat(archivedIds("p_notification_y2025m02")).containsExactly("3");
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + SCHEMA + ".p_notification", Long.class))
+        .isOne();
+  }
+
+  @Test
+  void testArchivesPartitionLeftDetachedByPreviousRun() throws IOException {
+    partitionManager.createFuturePartitions(YearMonth.of(2025, 1));
+    insert(1, "2025-01-05");
+    // 분리 후 보관 전에 중단된 이전 실행 재현
+    jdbcTemplate.execute(
+        "ALTER TABLE %1$s.p_notification DETACH PARTITION %1$s.p_notification_y2025m01"
+            .formatted(SCHEMA));
+
+    partitionManager.archiveExpiredPartitions(YearMonth.of(2025, 2));
+
+    assertThat(tables()).doesNotContain("p_notification_y2025m01");
+    assertThat(archivedIds("p_notification_y2025m01")).containsExactly("1");
+  }
+
+  private void insert(long id, String createdAt) {
+    jdbcTemplate.update(
+        "INSERT INTO "
+            + SCHEMA
+            + ".p_notification (id, subject, created_at) VALUES (?, ?, ?::timestamp)",
+        id,
+        "알림 " + id,
+        createdAt);
+  }
+
+  private List<String> partitions() {
+    return jdbcTemplate.queryForList(
+        """
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = ?::regclass
+        ORDER BY c.relname
+        """,
+        String.class,
+        SCHEMA + ".p_notification");
+  }
+
+  private List<String> tables() {
+    return jdbcTemplate.queryForList(
+        "SELECT tablename FROM pg_tables WHERE schemaname = ? ORDER BY tablename",
+        String.class,
+        SCHEMA);
+  }
+
+  /** 보관 파일의 JSON 행에서 id 추출 */
+  private List<String> archivedIds(String partition) throws IOException {
+    Path archive = archiveDirectory.resolve(partition + ".jsonl.gz");
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(archive)), StandardCharsets.UTF_8))) {
+      return reader.lines().map(line -> line.replaceAll("^\\{\"id\":(\\d+),.*$", "$1")).toList();
+    }
+  }
+}
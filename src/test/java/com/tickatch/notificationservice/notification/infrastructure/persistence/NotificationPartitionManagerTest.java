@@ -0,0 +1,35 @@
+package com.tickatch.notificationservice.notification.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.YearMonth;
+import org.junit.jupiter.api.Test;
+
+class NotificationPartitionManagerTest {
+
+  @Test
+  void testPartitionNamePadsYearAndMonth() {
+    assertThat(NotificationPartitionManager.partitionName(YearMonth.of(2026, 3)))
+        .isEqualTo("p_notification_y2026m03");
+    assertThat(NotificationPartitionManager.partitionName(YearMonth.of(2026, 11)))
+        .isEqualTo("p_notification_y2026m11");
+  }
+
+  @Test
+  void testParseMonthRoundTripsPartitionName() {
+    YearMonth month = YearMonth.of(2025, 12);
+
+    assertThat(
+            NotificationPartitionManager.parseMonth(
+                NotificationPartitionManager.partitionName(month)))
+        .contains(month);
+  }
+
+  @Test
+  void testParseMonthIgnoresOtherTables() {
+    assertThat(NotificationPartitionManager.parseMonth("p_notification_legacy")).isEmpty();
+    assertThat(NotificationPartitionManager.parseMonth("p_notification_y2026m11_pkey")).isEmpty();
+    assertThat(NotificationPartitionManager.parseMonth("p_notification_y2026m1")).isEmpty();
+    assertThat(NotificationPartitionManager.parseMonth("p_notification_outbox_y2026m11")).isEmpty();
+  }
+}